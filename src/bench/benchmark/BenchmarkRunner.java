@@ -0,0 +1,87 @@
+package benchmark;
+
+import com.sun.management.ThreadMXBean;
+import model.EventLog;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * BenchmarkRunner times an operation the way a JMH run with the gc profiler would report it: after a warmup
+ * phase it times every invocation for a fixed measurement period and prints throughput, mean and percentile
+ * latency, bytes allocated per operation and the garbage collections that happened while measuring.
+ */
+public class BenchmarkRunner {
+    private static final int MAX_SAMPLES = 1_000_000;
+    private final long warmupNanos;
+    private final long measureNanos;
+    private final ThreadMXBean threadBean;
+
+    // EFFECTS: constructs a runner that warms up and measures each benchmark for the given number of millis
+    public BenchmarkRunner(long warmupMillis, long measureMillis) {
+        this.warmupNanos = warmupMillis * 1_000_000L;
+        this.measureNanos = measureMillis * 1_000_000L;
+        this.threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    // EFFECTS: prints the column headings of the result table
+    public static void printHeader() {
+        System.out.printf("%-32s %9s %14s %12s %12s %12s %12s %6s%n",
+                "benchmark", "size", "ops/s", "mean ns", "p50 ns", "p99 ns", "B/op", "gcs");
+    }
+
+    // EFFECTS: warms up and measures op, then prints one result row labelled with name and size
+    public void run(String name, int size, Runnable op) {
+        loop(op, warmupNanos, null);
+        EventLog.getInstance().clear();
+        long[] samples = new long[MAX_SAMPLES];
+        long gcsBefore = gcCount();
+        long bytesBefore = threadBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        int ops = loop(op, measureNanos, samples);
+        long elapsed = System.nanoTime() - start;
+        long bytes = threadBean.getCurrentThreadAllocatedBytes() - bytesBefore;
+        long gcs = gcCount() - gcsBefore;
+        EventLog.getInstance().clear();
+
+        long[] measured = Arrays.copyOf(samples, Math.min(ops, MAX_SAMPLES));
+        Arrays.sort(measured);
+        System.out.printf("%-32s %9d %14.1f %12d %12d %12d %12d %6d%n", name, size,
+                ops * 1e9 / elapsed, elapsed / ops, percentile(measured, 0.50), percentile(measured, 0.99),
+                bytes / ops, gcs);
+    }
+
+    // EFFECTS: runs op repeatedly (at least once) for the given time, recording each latency into samples
+    //          when samples is not null; returns the number of invocations
+    private static int loop(Runnable op, long nanos, long[] samples) {
+        long end = System.nanoTime() + nanos;
+        int ops = 0;
+        long now;
+        do {
+            long before = System.nanoTime();
+            op.run();
+            now = System.nanoTime();
+            if (samples != null && ops < samples.length) {
+                samples[ops] = now - before;
+            }
+            ops++;
+        } while (now < end);
+        return ops;
+    }
+
+    // REQUIRES: sorted is sorted in ascending order and not empty
+    // EFFECTS: returns the value at the given fraction of sorted
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(fraction * sorted.length))];
+    }
+
+    // EFFECTS: returns the total number of collections performed by all garbage collectors so far
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,48 @@
+package benchmark;
+
+import model.EventLog;
+import model.Game;
+import model.Team;
+import persistence.JsonReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Random;
+
+/**
+ * Fixtures builds deterministic teams of a requested size for the benchmarks from LeagueGenerator output.
+ */
+public class Fixtures {
+    static final long FIRST_DAY = 1_704_067_200_000L;
+    static final long DAY = 86_400_000L;
+
+    private Fixtures() {
+    }
+
+    // EFFECTS: returns a team with size players, size games and size / 10 training sessions of five attendees,
+    //          generated from seed; clears the event log afterwards so the fixture does not hold on to the
+    //          events logged while it was built
+    public static Team team(int size, long seed) throws IOException {
+        File file = File.createTempFile("fixture-" + size, ".json");
+        try {
+            new LeagueGenerator(seed, size, size, size / 10, 5).writeTeam(file.getPath(), "Bench " + size);
+            Team team = new JsonReader(file.getPath()).readTeam();
+            team.getGames();
+            team.getTrainingSessions();
+            EventLog.getInstance().clear();
+            return team;
+        } finally {
+            file.delete();
+        }
+    }
+
+    // EFFECTS: returns a played game on the given day against one of a few dozen opponents
+    public static Game game(Random random, long day) {
+        Game game = new Game("Opponent " + random.nextInt(40), new Date(FIRST_DAY + day * DAY), "Venue");
+        game.setHomeScore(60 + random.nextInt(50));
+        game.setOpponentScore(60 + random.nextInt(50));
+        game.setIsWin(game.getHomeScore() > game.getOpponentScore());
+        return game;
+    }
+}
@@ -0,0 +1,218 @@
+package benchmark;
+
+import model.Position;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import persistence.TeamStreamWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * LeagueGenerator produces synthetic teams and leagues for load and scale testing. Output is fully determined by
+ * the seed and the configured numbers of players, games, training sessions and attendees per session. Teams are
+ * streamed to disk through TeamStreamWriter one entity at a time, so generating a team never holds the team in
+ * memory and never creates model objects (whose constructors would fill the event log).
+ * Games are every other day from 2024-01-01 with training sessions on the days in between; the first three
+ * quarters of the schedule have results and the rest are upcoming. In a league every team plays a round robin
+ * against the other teams and both files of a pairing agree on date, venue and score.
+ */
+public class LeagueGenerator {
+    private static final String[] FIRST_NAMES = {"Ava", "Ben", "Chloe", "Dhruv", "Ella", "Finn", "Grace", "Hiro",
+        "Isla", "Jay", "Kira", "Liam", "Maya", "Noah", "Omar", "Priya", "Quinn", "Ravi", "Sofia", "Theo"};
+    private static final String[] LAST_NAMES = {"Brown", "Chen", "Davis", "Evans", "Fraser", "Gill", "Hughes",
+        "Ito", "Jones", "Khan", "Lee", "Martin", "Nguyen", "Olsen", "Patel", "Reid", "Singh", "Tran", "Wong", "Young"};
+    private static final Position[] POSITIONS = Position.values();
+    private static final String[] VENUES = {"SRC", "Osborne", "War Memorial Gym", "Thunderbird Arena"};
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final int LOWER_BOUND_AGE = 15;
+    private static final int UPPER_BOUND_AGE = 24;
+    private static final int OPPONENT_POOL = 30;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private final long seed;
+    private final int players;
+    private final int games;
+    private final int sessions;
+    private final int attendees;
+
+    // REQUIRES: all counts >= 0
+    // EFFECTS: constructs a generator producing teams with the given numbers of players, games and training
+    //          sessions, with attendeesPerSession attendees drawn from the roster for each session
+    public LeagueGenerator(long seed, int players, int games, int sessions, int attendeesPerSession) {
+        this.seed = seed;
+        this.players = players;
+        this.games = games;
+        this.sessions = sessions;
+        this.attendees = attendeesPerSession;
+    }
+
+    // EFFECTS: writes a single team named teamName to path, playing opponents from a generic pool
+    public void writeTeam(String path, String teamName) throws IOException {
+        writeTeam(path, teamName, 0, new String[0]);
+    }
+
+    // EFFECTS: writes a league of the given number of teams into directory as team-000.json, team-001.json, ...
+    //          and returns the paths written
+    public List<String> writeLeague(String directory, int teams) throws IOException {
+        String[] names = new String[teams];
+        for (int i = 0; i < teams; i++) {
+            names[i] = "Team " + i;
+        }
+        new File(directory).mkdirs();
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < teams; i++) {
+            String path = new File(directory, String.format("team-%03d.json", i)).getPath();
+            writeTeam(path, names[i], i, names);
+            paths.add(path);
+        }
+        return paths;
+    }
+
+    // EFFECTS: returns the name of the player with the given jersey number; every jersey number gets a
+    //          different name
+    public static String playerName(int jerseyNumber) {
+        int combinations = FIRST_NAMES.length * LAST_NAMES.length;
+        String name = FIRST_NAMES[jerseyNumber % FIRST_NAMES.length] + " "
+                + LAST_NAMES[(jerseyNumber / FIRST_NAMES.length) % LAST_NAMES.length];
+        return jerseyNumber < combinations ? name : name + " " + (jerseyNumber / combinations + 1);
+    }
+
+    // EFFECTS: streams one team to path; league holds the names of every team in the league (empty outside one)
+    private void writeTeam(String path, String teamName, int teamIndex, String[] league) throws IOException {
+        SplittableRandom random = new SplittableRandom(mix(seed, teamIndex, -1));
+        try (TeamStreamWriter writer = new TeamStreamWriter(path)) {
+            writer.beginTeam(teamName, LOWER_BOUND_AGE, UPPER_BOUND_AGE);
+            for (int i = 0; i < players; i++) {
+                JSONObject player = player(random, i);
+                writer.writePlayer(() -> player);
+            }
+            for (int round = 0; round < games; round++) {
+                JSONObject game = league.length == 0 ? game(random, round) : leagueGame(league, teamIndex, round);
+                if (game != null) {
+                    writer.writeGame(() -> game);
+                }
+            }
+            for (int i = 0; i < sessions; i++) {
+                JSONObject session = trainingSession(random, i);
+                writer.writeTrainingSession(() -> session);
+            }
+            writer.endTeam();
+        }
+    }
+
+    // EFFECTS: returns a player with the given jersey number and random age, position and season stats
+    private JSONObject player(SplittableRandom random, int jerseyNumber) {
+        int played = playedGames();
+        JSONObject stats = new JSONObject();
+        stats.put("points", played * random.nextInt(30));
+        stats.put("assists", played * random.nextInt(10));
+        stats.put("blocks", played * random.nextInt(4));
+        stats.put("rebounds", played * random.nextInt(12));
+        JSONObject player = new JSONObject();
+        player.put("name", playerName(jerseyNumber));
+        player.put("age", random.nextInt(LOWER_BOUND_AGE, UPPER_BOUND_AGE + 1));
+        player.put("position", POSITIONS[random.nextInt(POSITIONS.length)].name());
+        player.put("jerseyNumber", jerseyNumber);
+        player.put("stats", stats);
+        return player;
+    }
+
+    // EFFECTS: returns the game played in the given round against an opponent from the generic pool
+    private JSONObject game(SplittableRandom random, int round) {
+        int homeScore = 60 + random.nextInt(50);
+        int opponentScore = 60 + random.nextInt(50);
+        if (homeScore == opponentScore) {
+            opponentScore++;
+        }
+        return game("Opponent " + random.nextInt(OPPONENT_POOL), round, VENUES[random.nextInt(VENUES.length)],
+                homeScore, opponentScore);
+    }
+
+    // EFFECTS: returns the round robin game of team teamIndex in the given round, or null if it has a bye
+    private JSONObject leagueGame(String[] league, int teamIndex, int round) {
+        int opponent = roundRobinOpponent(league.length, teamIndex, round);
+        if (opponent >= league.length) {
+            return null;
+        }
+        int low = Math.min(teamIndex, opponent);
+        SplittableRandom pairing = new SplittableRandom(mix(seed, round, low));
+        int lowScore = 60 + pairing.nextInt(50);
+        int highScore = 60 + pairing.nextInt(50);
+        if (lowScore == highScore) {
+            highScore++;
+        }
+        int home = round % 2 == 0 ? low : Math.max(teamIndex, opponent);
+        boolean isLow = teamIndex == low;
+        return game(league[opponent], round, league[home] + " Court",
+                isLow ? lowScore : highScore, isLow ? highScore : lowScore);
+    }
+
+    // EFFECTS: returns a game against opponentName on the day of the given round; games after the first
+    //          three quarters of the schedule are upcoming and have no result yet
+    private JSONObject game(String opponentName, int round, String venue, int homeScore, int opponentScore) {
+        boolean played = round < playedGames();
+        JSONObject game = new JSONObject();
+        game.put("opponentName", opponentName);
+        game.put("date", FIRST_DAY.plusDays(2L * round).toString());
+        game.put("venue", venue);
+        game.put("homeScore", played ? homeScore : 0);
+        game.put("opponentScore", played ? opponentScore : 0);
+        game.put("isWin", played && homeScore > opponentScore);
+        return game;
+    }
+
+    // EFFECTS: returns the training session held on the day after the given round's game
+    private JSONObject trainingSession(SplittableRandom random, int index) {
+        JSONArray names = new JSONArray();
+        for (int i = 0; i < attendees && players > 0; i++) {
+            names.put(playerName(random.nextInt(players)));
+        }
+        JSONObject session = new JSONObject();
+        session.put("date", FIRST_DAY.plusDays(2L * index + 1).toString());
+        session.put("duration", 60 + 15 * random.nextInt(5));
+        session.put("venue", VENUES[random.nextInt(VENUES.length)]);
+        session.put("attendees", names);
+        session.put("completed", index < playedGames());
+        return session;
+    }
+
+    // EFFECTS: returns how many rounds of the schedule have been played
+    private int playedGames() {
+        return games * 3 / 4;
+    }
+
+    // EFFECTS: returns the opponent of team in the given round of a circle-method round robin between teams
+    //          teams; a result of teams or more means a bye
+    static int roundRobinOpponent(int teams, int team, int round) {
+        int slots = teams % 2 == 0 ? teams : teams + 1;
+        int k = round % (slots - 1);
+        if (team == slots - 1) {
+            return k;
+        } else if (team == k) {
+            return slots - 1;
+        }
+        return Math.floorMod(2 * k - team, slots - 1);
+    }
+
+    // EFFECTS: returns a well mixed seed derived from the given values
+    private static long mix(long seed, long a, long b) {
+        long z = seed + GOLDEN_GAMMA * (a + 1) + 0xBF58476D1CE4E5B9L * (b + 2);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // EFFECTS: generates a league from the command line:
+    //          directory teams players games sessions attendeesPerSession [seed]
+    public static void main(String[] args) throws IOException {
+        long seed = args.length > 6 ? Long.parseLong(args[6]) : 42;
+        LeagueGenerator generator = new LeagueGenerator(seed, Integer.parseInt(args[2]),
+                Integer.parseInt(args[3]), Integer.parseInt(args[4]), Integer.parseInt(args[5]));
+        List<String> paths = generator.writeLeague(args[0], Integer.parseInt(args[1]));
+        System.out.println("Wrote " + paths.size() + " teams to " + args[0]);
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import model.Event;
+import model.EventLog;
+import model.Team;
+import persistence.JsonReader;
+import persistence.JsonWriter;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+/**
+ * TeamBenchmarks measures the model and persistence hot paths at a range of roster and history sizes.
+ * Usage: java benchmark.TeamBenchmarks [comma-separated sizes] [warmup millis] [measure millis]
+ */
+public class TeamBenchmarks {
+    private static final String DEFAULT_SIZES = "10,1000,100000,1000000";
+    private static final long SEED = 42;
+    private static final int LOG_BATCH = 1024;
+
+    // EFFECTS: runs every benchmark at every requested size and prints the results
+    public static void main(String[] args) throws IOException {
+        String sizes = args.length > 0 ? args[0] : DEFAULT_SIZES;
+        long warmup = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        long measure = args.length > 2 ? Long.parseLong(args[2]) : 3000;
+        BenchmarkRunner runner = new BenchmarkRunner(warmup, measure);
+        BenchmarkRunner.printHeader();
+        for (String size : sizes.split(",")) {
+            runAll(runner, Integer.parseInt(size.trim()));
+        }
+    }
+
+    // EFFECTS: runs every benchmark against a fixture of the given size
+    private static void runAll(BenchmarkRunner runner, int size) throws IOException {
+        Team team = Fixtures.team(size, SEED);
+        Random random = new Random(SEED);
+        runner.run("Team.findPlayerByJerseyNumber", size,
+                () -> team.findPlayerByJerseyNumber(random.nextInt(size)));
+        int[] logged = new int[1];
+        runner.run("EventLog.logEvent", size, () -> logBounded(logged));
+        EventLog.getInstance().clear();
+        runner.run("Team.toJson", size, team::toJson);
+
+        File file = File.createTempFile("team-bench-" + size, ".json");
+        file.deleteOnExit();
+        runner.run("JsonWriter.write", size, () -> write(team, file.getPath()));
+        runner.run("JsonReader.readTeam", size, () -> read(file.getPath(), false));
+        runner.run("JsonReader.readTeam+hydrate", size, () -> read(file.getPath(), true));
+
+        runner.run("Team.addGame", size, () -> team.addGame(Fixtures.game(random, random.nextInt(size))));
+    }
+
+    // MODIFIES: logged
+    // EFFECTS: logs one event, clearing the log after every LOG_BATCH events so that it stays small however long
+    //          the benchmark runs; logged[0] counts the events logged since the last clear
+    private static void logBounded(int[] logged) {
+        EventLog.getInstance().logEvent(new Event("benchmark"));
+        if (++logged[0] == LOG_BATCH) {
+            EventLog.getInstance().clear();
+            logged[0] = 0;
+        }
+    }
+
+    // EFFECTS: writes team to path
+    private static void write(Team team, String path) {
+        try {
+            JsonWriter writer = new JsonWriter(path);
+            writer.open();
+            writer.write(team);
+            writer.close();
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // EFFECTS: reads the team at path, building its games and training sessions too if hydrate is true
+    private static void read(String path, boolean hydrate) {
+        try {
+            Team team = new JsonReader(path).readTeam();
+            if (hydrate) {
+                team.getGames();
+                team.getTrainingSessions();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
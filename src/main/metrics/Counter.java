@@ -0,0 +1,27 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter is a monotonically increasing count that many threads can increment without contention.
+ */
+public class Counter implements CounterMXBean {
+    private final LongAdder count = new LongAdder();
+
+    // MODIFIES: this
+    // EFFECTS: adds one to the count
+    public void increment() {
+        count.increment();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds amount to the count
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,9 @@
+package metrics;
+
+/**
+ * Management interface through which JMX tools read a Counter.
+ */
+public interface CounterMXBean {
+    // EFFECTS: returns the current count
+    long getCount();
+}
@@ -0,0 +1,29 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * GameOutcomeEvent is a Java Flight Recorder event covering the recording of a game's outcome: adding every
+ * player's stat line and setting the scores and result of the game.
+ */
+@Name("basketballApp.GameOutcome")
+@Label("Game Outcome Recorded")
+@Category({"Basketball App", "Model"})
+@Description("Player stat lines and the score of one game being recorded")
+public class GameOutcomeEvent extends Event {
+    @Label("Opponent")
+    public String opponent;
+
+    @Label("Stat Lines")
+    public int statLines;
+
+    @Label("Home Score")
+    public int homeScore;
+
+    @Label("Opponent Score")
+    public int opponentScore;
+}
@@ -0,0 +1,20 @@
+package metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Gauge reports a value sampled from the application each time it is read.
+ */
+public class Gauge implements GaugeMXBean {
+    private final LongSupplier supplier;
+
+    // EFFECTS: constructs a gauge that reads its value from supplier
+    public Gauge(LongSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public long getValue() {
+        return supplier.getAsLong();
+    }
+}
@@ -0,0 +1,9 @@
+package metrics;
+
+/**
+ * Management interface through which JMX tools read a Gauge.
+ */
+public interface GaugeMXBean {
+    // EFFECTS: returns the current value
+    long getValue();
+}
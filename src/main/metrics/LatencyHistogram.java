@@ -0,0 +1,106 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram counts latencies in logarithmic buckets: every power of two is split into eight linear
+ * sub-buckets, so a reported percentile is at most 12.5% above the true value. Recording is lock-free (one
+ * atomic increment plus adders), so it can sit on hot paths used by several threads.
+ */
+public class LatencyHistogram implements LatencyHistogramMXBean {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    // MODIFIES: this
+    // EFFECTS: records a latency of the given number of nanoseconds; negative latencies are recorded as 0
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        total.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the time elapsed since startNanos, a value previously returned by System.nanoTime()
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : total.sum() / n;
+    }
+
+    @Override
+    public long getP50() {
+        return percentile(0.50);
+    }
+
+    @Override
+    public long getP90() {
+        return percentile(0.90);
+    }
+
+    @Override
+    public long getP99() {
+        return percentile(0.99);
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    // REQUIRES: 0 <= fraction <= 1
+    // EFFECTS: returns the upper bound of the bucket holding the given fraction of recorded latencies,
+    //          capped at the largest latency, or 0 if nothing has been recorded
+    public long percentile(double fraction) {
+        long n = count.sum();
+        long rank = Math.max(1, (long) Math.ceil(fraction * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS && n > 0; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    // EFFECTS: returns the bucket that value is counted in
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int group = highestBit - SUB_BITS + 1;
+        int sub = (int) (value >>> (highestBit - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return group * SUB_BUCKETS + sub;
+    }
+
+    // EFFECTS: returns the largest value counted in the given bucket
+    static long upperBound(int bucket) {
+        int group = bucket / SUB_BUCKETS;
+        if (group == 0) {
+            return bucket;
+        }
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (group - 1);
+        return lower + (1L << (group - 1)) - 1;
+    }
+}
@@ -0,0 +1,24 @@
+package metrics;
+
+/**
+ * Management interface through which JMX tools read a LatencyHistogram. All latencies are in nanoseconds.
+ */
+public interface LatencyHistogramMXBean {
+    // EFFECTS: returns the number of recorded latencies
+    long getCount();
+
+    // EFFECTS: returns the mean recorded latency, or 0 if nothing has been recorded
+    long getMean();
+
+    // EFFECTS: returns the median recorded latency
+    long getP50();
+
+    // EFFECTS: returns the 90th percentile recorded latency
+    long getP90();
+
+    // EFFECTS: returns the 99th percentile recorded latency
+    long getP99();
+
+    // EFFECTS: returns the largest recorded latency
+    long getMax();
+}
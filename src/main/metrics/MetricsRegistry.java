@@ -0,0 +1,65 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * MetricsRegistry holds the application's named counters, gauges and latency histograms and publishes each one
+ * as a platform MBean under the "basketballApp" domain, so JConsole or any other local JMX tool can read them.
+ * We use the Singleton Design Pattern so that every class records into the same registry.
+ */
+public class MetricsRegistry {
+    public static final String DOMAIN = "basketballApp";
+    private static MetricsRegistry theRegistry;
+    private final Map<String, Object> metrics;
+
+    // EFFECTS: prevents external construction (Singleton Design Pattern)
+    private MetricsRegistry() {
+        metrics = new ConcurrentHashMap<>();
+    }
+
+    // EFFECTS: returns the registry, creating it if it doesn't already exist (Singleton Design Pattern)
+    public static synchronized MetricsRegistry getInstance() {
+        if (theRegistry == null) {
+            theRegistry = new MetricsRegistry();
+        }
+        return theRegistry;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the counter with the given name, creating and publishing it if needed
+    public Counter counter(String name) {
+        return (Counter) metrics.computeIfAbsent(name, key -> publish("Counter", key, new Counter()));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the gauge with the given name, creating and publishing it with supplier if needed
+    public Gauge gauge(String name, LongSupplier supplier) {
+        return (Gauge) metrics.computeIfAbsent(name, key -> publish("Gauge", key, new Gauge(supplier)));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the latency histogram with the given name, creating and publishing it if needed
+    public LatencyHistogram histogram(String name) {
+        return (LatencyHistogram) metrics.computeIfAbsent(name,
+            key -> publish("LatencyHistogram", key, new LatencyHistogram()));
+    }
+
+    // EFFECTS: registers metric with the platform MBean server and returns it; a metric that cannot be
+    //          registered is still returned and recorded into, it is just not visible over JMX
+    private static Object publish(String type, String name, Object metric) {
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metric, objectName);
+            }
+        } catch (JMException e) {
+            System.out.println("Could not publish metric " + name + ": " + e.getMessage());
+        }
+        return metric;
+    }
+}
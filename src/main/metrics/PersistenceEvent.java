@@ -0,0 +1,93 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * PersistenceEvent is a Java Flight Recorder event covering one step of loading or saving a team, such as opening
+ * the destination file, serializing the team or reading the source file. Entity counts that are not known for a
+ * step (for example games that have not been loaded yet) are recorded as -1, and so is the size of a step that
+ * handles no text. Sizes are in bytes of UTF-8, as stored in the file.
+ */
+@Name("basketballApp.Persistence")
+@Label("Persistence Step")
+@Category({"Basketball App", "Persistence"})
+@Description("One step of loading or saving a team")
+public class PersistenceEvent extends Event {
+    @Label("Operation")
+    public String operation;
+
+    @Label("File")
+    public String file;
+
+    @Label("Players")
+    public int players = -1;
+
+    @Label("Games")
+    public int games = -1;
+
+    @Label("Training Sessions")
+    public int trainingSessions = -1;
+
+    @Label("Size")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes = -1;
+
+    // EFFECTS: constructs an event for the given operation on file
+    public PersistenceEvent(String operation, String file) {
+        this.operation = operation;
+        this.file = file;
+    }
+
+    // EFFECTS: returns a new event for the given operation on file whose timing has begun
+    public static PersistenceEvent start(String operation, String file) {
+        PersistenceEvent event = new PersistenceEvent(operation, file);
+        event.begin();
+        return event;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: ends the timing and, if the event is enabled in the running recording, records the given
+    //          counts and size in bytes and commits it
+    public void finish(int players, int games, int trainingSessions, long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.players = players;
+            this.games = games;
+            this.trainingSessions = trainingSessions;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: as finish, with the size being that of text encoded as UTF-8 (or -1 if text is null); the size is
+    //          only measured if the event is enabled in the running recording
+    public void finish(int players, int games, int trainingSessions, CharSequence text) {
+        finish(players, games, trainingSessions, text == null || !isEnabled() ? -1 : utf8Length(text));
+    }
+
+    // EFFECTS: returns the number of bytes text takes up when encoded as UTF-8
+    static long utf8Length(CharSequence text) {
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
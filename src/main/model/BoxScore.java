@@ -0,0 +1,78 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A BoxScore is the complete record of one game for a team: a stat line of points, assists, rebounds and blocks
+ * for each player who played, and the opponent's score. The team's score is the sum of its players' points.
+ * Every number is at most MAX_VALUE, far beyond any real game, so that sum cannot overflow.
+ * A box score is validated as a whole when it is made and is committed to a team in one operation with
+ * Team.recordBoxScore.
+ */
+public class BoxScore {
+    public static final String[] STATS = {"Points", "Assists", "Rebounds", "Blocks"};
+    public static final int POINTS = 0;
+    public static final int ASSISTS = 1;
+    public static final int REBOUNDS = 2;
+    public static final int BLOCKS = 3;
+    public static final int MAX_VALUE = 999;
+    private final List<Player> players;
+    private final int[][] lines;
+    private final int opponentScore;
+
+    // EFFECTS: constructs a box score giving players.get(i) the stat line lines[i] (in STATS order) against an
+    //          opponent who scored opponentScore; throws IllegalArgumentException if players and lines differ in
+    //          length, a player appears twice, a line does not have one number per stat, or any number is negative
+    //          or greater than MAX_VALUE
+    public BoxScore(List<Player> players, int[][] lines, int opponentScore) {
+        if (players.size() != lines.length || players.size() != Set.copyOf(players).size()) {
+            throw new IllegalArgumentException("Each player needs exactly one stat line");
+        }
+        this.players = Collections.unmodifiableList(new ArrayList<>(players));
+        this.lines = new int[lines.length][];
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].length != STATS.length) {
+                throw new IllegalArgumentException("Stat line of " + players.get(i).getName() + " is incomplete");
+            }
+            for (int value : lines[i]) {
+                checkRange(value);
+            }
+            this.lines[i] = lines[i].clone();
+        }
+        this.opponentScore = checkRange(opponentScore);
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    // REQUIRES: 0 <= index < getPlayers().size() and 0 <= stat < STATS.length
+    // EFFECTS: returns the given stat of the index-th player
+    public int getStat(int index, int stat) {
+        return lines[index][stat];
+    }
+
+    public int getOpponentScore() {
+        return opponentScore;
+    }
+
+    // EFFECTS: returns the total points of the team's players
+    public int getHomeScore() {
+        int total = 0;
+        for (int[] line : lines) {
+            total += line[POINTS];
+        }
+        return total;
+    }
+
+    // EFFECTS: returns value; throws IllegalArgumentException if it is negative or greater than MAX_VALUE
+    private static int checkRange(int value) {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("Box score numbers must be from 0 to " + MAX_VALUE + ": " + value);
+        }
+        return value;
+    }
+}
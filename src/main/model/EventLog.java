@@ -1,5 +1,9 @@
 package model;
 
+import metrics.Counter;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -13,6 +17,9 @@ import java.util.Iterator;
 public class EventLog implements Iterable<Event> {
     /** the only EventLog in the system (Singleton Design Pattern) */
     private static EventLog theLog;
+    private static final Counter EVENTS_LOGGED = MetricsRegistry.getInstance().counter("EventLog.events");
+    private static final LatencyHistogram LOG_EVENT_LATENCY =
+            MetricsRegistry.getInstance().histogram("EventLog.logEvent");
     private Collection<Event> events;
 
     /**
@@ -21,6 +28,7 @@ public class EventLog implements Iterable<Event> {
      */
     private EventLog() {
         events = new ArrayList<Event>();
+        MetricsRegistry.getInstance().gauge("EventLog.size", () -> events.size());
     }
 
     /**
@@ -29,7 +37,7 @@ public class EventLog implements Iterable<Event> {
      * (Singleton Design Pattern)
      * @return  instance of EventLog
      */
-    public static EventLog getInstance() {
+    public static synchronized EventLog getInstance() {
         if (theLog == null) {
             theLog = new EventLog();
         }
@@ -41,20 +49,27 @@ public class EventLog implements Iterable<Event> {
      * Adds an event to the event log.
      * @param e the event to be added
      */
-    public void logEvent(Event e) {
+    public synchronized void logEvent(Event e) {
+        long start = System.nanoTime();
         events.add(e);
+        EVENTS_LOGGED.increment();
+        LOG_EVENT_LATENCY.recordSince(start);
     }
 
     /**
      * Clears the event log and logs the event.
      */
-    public void clear() {
+    public synchronized void clear() {
         events.clear();
         logEvent(new Event("Event log cleared."));
     }
 
+    /**
+     * Iterates over a copy of the events logged so far, so events may keep being
+     * logged from other threads while iterating.
+     */
     @Override
-    public Iterator<Event> iterator() {
-        return events.iterator();
+    public synchronized Iterator<Event> iterator() {
+        return new ArrayList<Event>(events).iterator();
     }
 }
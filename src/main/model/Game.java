@@ -5,19 +5,28 @@ import persistence.Writable;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * The Game class represents a basketball game. It encapsulates details such
  * as the opponent's name, date of the game, venue, home score, opponent score,
  * and the win status. The class provides methods to access and modify these attributes.
+ * The scores and win status may be read and changed from several threads without locking: a game keeps its
+ * current state as an immutable version, which every change replaces with compare-and-set and then publishes to
+ * the team holding the game. Versions are Games themselves, as found in team snapshots; they cannot be changed.
  */
 public class Game implements Writable {
-    private String opponentName;
-    private Date date;
-    private String venue;
-    private int homeScore;
-    private int opponentScore;
-    private boolean isWin;
+    private final String opponentName;
+    private final Date date;
+    private final String venue;
+    private final int homeScore;
+    private final int opponentScore;
+    private final boolean isWin;
+    private final Game handle;
+    private final AtomicReference<Game> current;
+    private volatile Team team;
+    private Game counted;
 
     // EFFECTS: Constructs a Game object with the given opponent name, date, and venue,
     //          initializing opponent score, home score, and win status to default values
@@ -28,9 +37,24 @@ public class Game implements Writable {
         this.opponentScore = 0;
         this.homeScore = 0;
         this.isWin = false;
+        this.handle = this;
+        this.current = new AtomicReference<>(new Game(this, opponentName, date, venue, 0, 0, false));
         EventLog.getInstance().logEvent(new Event("New game created with opponent: " + opponentName));
     }
 
+    // EFFECTS: Constructs an unchangeable version of the game handle with the given state without logging an event
+    private Game(Game handle, String opponentName, Date date, String venue, int homeScore, int opponentScore,
+                 boolean isWin) {
+        this.handle = handle;
+        this.opponentName = opponentName;
+        this.date = date;
+        this.venue = venue;
+        this.homeScore = homeScore;
+        this.opponentScore = opponentScore;
+        this.isWin = isWin;
+        this.current = null;
+    }
+
     public String getOpponentName() {
         return this.opponentName;
     }
@@ -51,42 +75,121 @@ public class Game implements Writable {
     }
 
     public int getHomeScore() {
-        return this.homeScore;
+        return version().homeScore;
     }
 
     public int getOpponentScore() {
-        return this.opponentScore;
+        return version().opponentScore;
     }
 
     public boolean getIsWin() {
-        return this.isWin;
+        return version().isWin;
     }
 
     public void setHomeScore(int homeScore) {
-        this.homeScore = homeScore;
+        changeResult(v -> v.withResult(homeScore, v.opponentScore, v.isWin));
         EventLog.getInstance().logEvent(new Event("Home score set to " + homeScore));
+        notifyTeam();
     }
 
     public void setOpponentScore(int opponentScore) {
-        this.opponentScore = opponentScore;
+        changeResult(v -> v.withResult(v.homeScore, opponentScore, v.isWin));
         EventLog.getInstance().logEvent(new Event("Opponent score set to " + opponentScore));
+        notifyTeam();
     }
 
     public void setIsWin(boolean isWin) {
-        this.isWin = isWin;
+        changeResult(v -> v.withResult(v.homeScore, v.opponentScore, isWin));
         String winStatus = isWin ? "won" : "lost";
         EventLog.getInstance().logEvent(new Event("Game result: " + winStatus));
+        notifyTeam();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets both scores and the win status at once, without logging, counting, publishing or telling the
+    //          team; used by Team.recordBoxScore, which publishes and reports the result as a single modification
+    void setResult(int homeScore, int opponentScore, boolean isWin) {
+        liveState().updateAndGet(v -> v.withResult(homeScore, opponentScore, isWin));
+    }
+
+    // EFFECTS: returns the current state of this game as an unchangeable version; a version is its own version
+    Game version() {
+        return this.current == null ? this : this.current.get();
+    }
+
+    // EFFECTS: returns the live game this is a version of; a live game is its own handle
+    Game handle() {
+        return this.handle;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the team whose schedule holds this game
+    void setTeam(Team team) {
+        this.team = team;
+    }
+
+    // EFFECTS: returns the team whose schedule holds this game, or null if it is on no schedule
+    Team team() {
+        return this.team;
+    }
+
+    // REQUIRES: the caller holds the record of the team holding this game
+    // EFFECTS: returns the version of this game the team's record currently counts, or null if none
+    Game counted() {
+        return this.counted;
+    }
+
+    // REQUIRES: the caller holds the record of the team holding this game
+    // MODIFIES: this
+    // EFFECTS: notes that the team's record now counts version
+    void setCounted(Game version) {
+        this.counted = version;
+    }
+
+    // EFFECTS: returns a version of this game with the given scores and win status
+    private Game withResult(int homeScore, int opponentScore, boolean isWin) {
+        return new Game(this.handle, this.opponentName, this.date, this.venue, homeScore, opponentScore, isWin);
+    }
+
+    // EFFECTS: returns the reference holding this game's current version; throws UnsupportedOperationException
+    //          if this is a version, which cannot be changed
+    private AtomicReference<Game> liveState() {
+        if (this.current == null) {
+            throw new UnsupportedOperationException("A snapshot of a game cannot be changed");
+        }
+        return this.current;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the current version by change applied to it, then has the team holding this game, if
+    //          there is one, publish it and count the new result
+    private void changeResult(UnaryOperator<Game> change) {
+        liveState().updateAndGet(change);
+        Team owner = this.team;
+        if (owner != null) {
+            owner.publish(this);
+            owner.countResult(this);
+        }
+    }
+
+    // EFFECTS: tells the team holding this game, if any, that the game has a new result
+    private void notifyTeam() {
+        Team owner = this.team;
+        if (owner != null) {
+            owner.gameResultChanged(this);
+        }
     }
 
     @Override
     public JSONObject toJson() {
+        Game state = version();
         JSONObject jsonGame = new JSONObject();
         jsonGame.put("opponentName", this.opponentName);
         jsonGame.put("date", this.getFormattedDate());
         jsonGame.put("venue", this.venue);
-        jsonGame.put("homeScore", this.homeScore);
-        jsonGame.put("opponentScore", this.opponentScore);
-        jsonGame.put("isWin", this.isWin);
+        jsonGame.put("homeScore", state.homeScore);
+        jsonGame.put("opponentScore", state.opponentScore);
+        jsonGame.put("isWin", state.isWin);
 
         return jsonGame;
     }
@@ -0,0 +1,10 @@
+package model;
+
+/**
+ * GameResultObserver represents an object that wants to be told whenever a game belonging to a team gets a
+ * result or has its result corrected (Observer Design Pattern).
+ */
+public interface GameResultObserver {
+    // EFFECTS: reacts to game, which belongs to team, having its scores or win status changed
+    void gameResultChanged(Team team, Game game);
+}
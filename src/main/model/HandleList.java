@@ -0,0 +1,54 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.function.UnaryOperator;
+
+/**
+ * HandleList is a read-only view of one version of a team's players, games or training sessions that shows,
+ * in place of each entity's unchangeable version, the live entity it is a version of. The underlying list is
+ * immutable, so the view never changes size or order, while the entities it shows keep changing.
+ */
+final class HandleList<E> extends AbstractList<E> {
+    private final PersistentList<E> versions;
+    private final UnaryOperator<E> handleOf;
+
+    // EFFECTS: constructs a view of versions that shows handleOf applied to each element
+    HandleList(PersistentList<E> versions, UnaryOperator<E> handleOf) {
+        this.versions = versions;
+        this.handleOf = handleOf;
+    }
+
+    @Override
+    public E get(int index) {
+        return handleOf.apply(versions.get(index));
+    }
+
+    @Override
+    public int size() {
+        return versions.size();
+    }
+
+    // EFFECTS: always throws UnsupportedOperationException, even when the list is empty
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    // EFFECTS: iterates over the live entities in order, in O(n) overall
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> inner = versions.iterator();
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return inner.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return handleOf.apply(inner.next());
+            }
+        };
+    }
+}
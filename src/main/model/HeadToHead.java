@@ -0,0 +1,63 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HeadToHead holds a team's history against one opponent: the games against them in chronological order
+ * and a running TeamRecord over those games, which gives the record, average margin and last meeting
+ * without looking at any other game.
+ */
+public class HeadToHead {
+    private final String opponentName;
+    private final List<Game> games;
+    private final TeamRecord record;
+
+    // EFFECTS: constructs an empty history against opponentName
+    HeadToHead(String opponentName) {
+        this.opponentName = opponentName;
+        this.games = new ArrayList<>();
+        this.record = new TeamRecord(this::getGames);
+    }
+
+    public String getOpponentName() {
+        return opponentName;
+    }
+
+    // EFFECTS: returns a copy of the games against the opponent, in chronological order
+    public synchronized List<Game> getGames() {
+        return new ArrayList<>(games);
+    }
+
+    // EFFECTS: returns the running totals over the games against the opponent
+    public TeamRecord getRecord() {
+        return record;
+    }
+
+    // EFFECTS: returns the average of points for minus points against over the games with a result
+    public double getAverageMargin() {
+        return record.getAverageMargin();
+    }
+
+    // EFFECTS: returns the most recent game against the opponent that has a result, or null if none
+    public Game getLastMeeting() {
+        return record.getLastPlayed();
+    }
+
+    // REQUIRES: game.getOpponentName() equals the opponent name
+    // MODIFIES: this
+    // EFFECTS: adds game to the history in date order; its result is counted through the record
+    synchronized void add(Game game) {
+        int low = 0;
+        int high = games.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (games.get(mid).getDate().after(game.getDate())) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        games.add(low, game);
+    }
+}
@@ -0,0 +1,26 @@
+package model;
+
+import java.util.List;
+
+/**
+ * A Lineup is one choice of players for the slots of a lineup template, in slot order, together with the
+ * score the LineupOptimizer gave it.
+ */
+public final class Lineup {
+    private final List<Player> players;
+    private final double score;
+
+    // EFFECTS: constructs a lineup of players, in slot order, with the given score
+    Lineup(List<Player> players, double score) {
+        this.players = List.copyOf(players);
+        this.score = score;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
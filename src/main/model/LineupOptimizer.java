@@ -0,0 +1,243 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * LineupOptimizer finds the highest-scoring lineups a roster can field for a lineup template, a list of slots
+ * each naming the positions that may fill it. A player's score is a weighted sum of their PerformanceStats
+ * and a lineup's score is the sum of its players' scores. The search is a branch and bound: each slot's
+ * candidates are pre-filtered by position and availability and sorted best first, slots are filled most
+ * constrained first, and a branch is abandoned as soon as even the best remaining candidates could not lift
+ * it into the current top N. The first two slots are split across cores with fork-join.
+ */
+public class LineupOptimizer {
+    public static final List<Set<Position>> ONE_OF_EACH = List.of(Set.of(Position.PG), Set.of(Position.SG),
+            Set.of(Position.SF), Set.of(Position.PF), Set.of(Position.C));
+    private static final int PARALLEL_DEPTH = 2;
+    private final double pointsWeight;
+    private final double assistsWeight;
+    private final double reboundsWeight;
+    private final double blocksWeight;
+
+    // EFFECTS: constructs an optimizer that scores players with the given weight per point, assist,
+    //          rebound and block
+    public LineupOptimizer(double pointsWeight, double assistsWeight, double reboundsWeight, double blocksWeight) {
+        this.pointsWeight = pointsWeight;
+        this.assistsWeight = assistsWeight;
+        this.reboundsWeight = reboundsWeight;
+        this.blocksWeight = blocksWeight;
+    }
+
+    // EFFECTS: returns the weighted sum of player's stats
+    public double score(Player player) {
+        PerformanceStats stats = player.stats();
+        return pointsWeight * stats.getPoints() + assistsWeight * stats.getAssists()
+                + reboundsWeight * stats.getRebounds() + blocksWeight * stats.getBlocks();
+    }
+
+    // REQUIRES: template is not empty, topN > 0
+    // EFFECTS: returns up to topN distinct lineups of available players on team that fit template, best first;
+    //          if the search has not finished after timeLimitMillis, returns the best lineups found so far
+    public List<Lineup> optimize(Team team, List<Set<Position>> template, Predicate<Player> available,
+                                 int topN, long timeLimitMillis) {
+        Search search = new Search(template, topN, System.nanoTime() + timeLimitMillis * 1_000_000L);
+        search.prepare(team.getPlayers(), available);
+        if (search.feasible()) {
+            ForkJoinPool.commonPool().invoke(search.new Branch(0, new int[template.size()], 0));
+        }
+        return search.results();
+    }
+
+    /**
+     * The state of one optimization: the candidates for each slot and the best lineups found so far.
+     */
+    private final class Search {
+        private final List<Set<Position>> template;
+        private final int topN;
+        private final long deadline;
+        private final PriorityQueue<Lineup> best = new PriorityQueue<>(Comparator.comparingDouble(Lineup::getScore));
+        private final Set<Set<Player>> seen = new HashSet<>();
+        private Player[] players;
+        private int[] slotOrder;
+        private int[][] candidates;
+        private double[][] candidateScores;
+        private double[] remainingBound;
+        private volatile double threshold = Double.NEGATIVE_INFINITY;
+
+        private Search(List<Set<Position>> template, int topN, long deadline) {
+            this.template = template;
+            this.topN = topN;
+            this.deadline = deadline;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: builds each slot's candidates, best first, orders the slots most constrained first and
+        //          computes the best score the remaining slots could add at each depth
+        private void prepare(List<Player> roster, Predicate<Player> available) {
+            players = roster.stream().filter(available).toArray(Player[]::new);
+            double[] scores = new double[players.length];
+            for (int i = 0; i < players.length; i++) {
+                scores[i] = score(players[i]);
+            }
+            candidates = new int[template.size()][];
+            for (int slot = 0; slot < template.size(); slot++) {
+                candidates[slot] = candidatesFor(template.get(slot), scores);
+            }
+            orderSlots(scores);
+            computeBounds();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: orders the slots by number of candidates, fewest first, and lays out the candidates' scores
+        //          in that order
+        private void orderSlots(double[] scores) {
+            int slots = template.size();
+            Integer[] order = new Integer[slots];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparingInt(slot -> candidates[slot].length));
+            slotOrder = new int[slots];
+            candidateScores = new double[slots][];
+            for (int depth = 0; depth < slots; depth++) {
+                slotOrder[depth] = order[depth];
+                candidateScores[depth] = Arrays.stream(candidates[order[depth]]).mapToDouble(i -> scores[i]).toArray();
+            }
+        }
+
+        // EFFECTS: returns the indexes of the players whose position is in positions, highest score first
+        private int[] candidatesFor(Set<Position> positions, double[] scores) {
+            Integer[] matching = IntStream.range(0, players.length)
+                    .filter(i -> positions.contains(players[i].position())).boxed().toArray(Integer[]::new);
+            Arrays.sort(matching, Comparator.comparingDouble((Integer i) -> scores[i]).reversed());
+            return Arrays.stream(matching).mapToInt(Integer::intValue).toArray();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: sets remainingBound[depth] to the sum of the best candidate scores of the slots from depth on
+        private void computeBounds() {
+            int slots = template.size();
+            remainingBound = new double[slots + 1];
+            for (int depth = slots - 1; depth >= 0; depth--) {
+                double top = candidateScores[depth].length == 0 ? 0 : candidateScores[depth][0];
+                remainingBound[depth] = remainingBound[depth + 1] + top;
+            }
+        }
+
+        // EFFECTS: returns true if every slot has at least one candidate
+        private boolean feasible() {
+            for (int[] slotCandidates : candidates) {
+                if (slotCandidates.length == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: records the lineup chosen (player index per depth) with the given score if it is among
+        //          the best topN distinct lineups so far
+        private synchronized void offer(int[] chosen, double score) {
+            if (best.size() == topN && score <= best.peek().getScore()) {
+                return;
+            }
+            Player[] lineup = new Player[chosen.length];
+            for (int depth = 0; depth < chosen.length; depth++) {
+                lineup[slotOrder[depth]] = players[chosen[depth]];
+            }
+            Set<Player> members = new HashSet<>(Arrays.asList(lineup));
+            if (!seen.add(members)) {
+                return;
+            }
+            best.add(new Lineup(Arrays.asList(lineup), score));
+            if (best.size() > topN) {
+                seen.remove(new HashSet<>(best.poll().getPlayers()));
+            }
+            if (best.size() == topN) {
+                threshold = best.peek().getScore();
+            }
+        }
+
+        // EFFECTS: returns the best lineups found, best first
+        private synchronized List<Lineup> results() {
+            List<Lineup> results = new ArrayList<>(best);
+            results.sort(Comparator.comparingDouble(Lineup::getScore).reversed());
+            return results;
+        }
+
+        /**
+         * A subtree of the search: the slots from depth on, with the earlier slots already chosen.
+         */
+        private final class Branch extends RecursiveAction {
+            private final int depth;
+            private final int[] chosen;
+            private final double current;
+
+            private Branch(int depth, int[] chosen, double current) {
+                this.depth = depth;
+                this.chosen = chosen;
+                this.current = current;
+            }
+
+            @Override
+            protected void compute() {
+                if (depth >= PARALLEL_DEPTH || depth == chosen.length) {
+                    search(depth, chosen, current);
+                    return;
+                }
+                List<Branch> branches = new ArrayList<>();
+                for (int k = 0; k < candidates[slotOrder[depth]].length; k++) {
+                    double score = current + candidateScores[depth][k];
+                    int player = candidates[slotOrder[depth]][k];
+                    if (score + remainingBound[depth + 1] <= threshold) {
+                        break;
+                    }
+                    if (!isChosen(chosen, depth, player)) {
+                        int[] next = chosen.clone();
+                        next[depth] = player;
+                        branches.add(new Branch(depth + 1, next, score));
+                    }
+                }
+                invokeAll(branches);
+            }
+        }
+
+        // MODIFIES: this, chosen
+        // EFFECTS: searches every way of filling the slots from depth on, sequentially
+        private void search(int depth, int[] chosen, double current) {
+            if (depth == chosen.length) {
+                offer(chosen, current);
+                return;
+            }
+            int[] slotCandidates = candidates[slotOrder[depth]];
+            for (int k = 0; k < slotCandidates.length && System.nanoTime() < deadline; k++) {
+                double score = current + candidateScores[depth][k];
+                if (score + remainingBound[depth + 1] <= threshold) {
+                    return;
+                }
+                if (!isChosen(chosen, depth, slotCandidates[k])) {
+                    chosen[depth] = slotCandidates[k];
+                    search(depth + 1, chosen, score);
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns true if player is among the first depth entries of chosen
+    private static boolean isChosen(int[] chosen, int depth, int player) {
+        for (int i = 0; i < depth; i++) {
+            if (chosen[i] == player) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package model;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OpponentIndex maps each opponent's name to the team's HeadToHead history against them, so looking up how
+ * the team does against an opponent is a hash lookup rather than a scan of the whole schedule.
+ */
+class OpponentIndex {
+    private final Map<String, HeadToHead> byOpponent = new ConcurrentHashMap<>();
+
+    // EFFECTS: returns the history against opponentName, or null if the team has no game against them
+    HeadToHead get(String opponentName) {
+        return byOpponent.get(opponentName);
+    }
+
+    // EFFECTS: returns the names of every opponent the team has a game against
+    Set<String> opponents() {
+        return Set.copyOf(byOpponent.keySet());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds game to the history against its opponent
+    void add(Game game) {
+        byOpponent.computeIfAbsent(game.getOpponentName(), HeadToHead::new).add(game);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves game's contribution to its opponent's record from version before (null if it was not
+    //          counted) to version after
+    void update(Game game, Game before, Game after) {
+        HeadToHead history = byOpponent.get(game.getOpponentName());
+        if (history != null) {
+            history.getRecord().update(game, before, after);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets every game
+    void clear() {
+        byOpponent.clear();
+    }
+}
@@ -3,17 +3,26 @@ package model;
 import org.json.JSONObject;
 import persistence.Writable;
 
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
 /**
  * The PerformanceStats class represents the performance statistics
  * of a basketball player. It encapsulates details such as points,
  * assists, blocks, and rebounds. The class provides methods to
- * access these attributes and add to them.
+ * access these attributes and add to them. The statistics may be read and added to from several threads without
+ * locking: statistics that belong to a player are part of the player's current version, and those that belong to
+ * no player keep their own, each replaced with compare-and-set, so concurrent additions are never lost.
+ * The statistics inside a player version are versions too and cannot be changed.
  */
 public class PerformanceStats implements Writable {
-    private int points;
-    private int assists;
-    private int blocks;
-    private int rebounds;
+    static final PerformanceStats ZERO = new PerformanceStats(0, 0, 0, 0);
+    private final int points;
+    private final int assists;
+    private final int blocks;
+    private final int rebounds;
+    private final AtomicReference<PerformanceStats> current;
+    private volatile Player player;
 
     // EFFECTS: Constructs a PerformanceStats object with initial values of 0 for points, assists, blocks, and rebounds
     public PerformanceStats() {
@@ -21,69 +30,140 @@ public class PerformanceStats implements Writable {
         this.assists = 0;
         this.blocks = 0;
         this.rebounds = 0;
+        this.current = new AtomicReference<>(ZERO);
+    }
+
+    // EFFECTS: Constructs an unchangeable version of statistics with the given values
+    private PerformanceStats(int points, int assists, int blocks, int rebounds) {
+        this.points = points;
+        this.assists = assists;
+        this.blocks = blocks;
+        this.rebounds = rebounds;
+        this.current = null;
     }
 
     public int getPoints() {
-        return this.points;
+        return version().points;
     }
 
     public int getAssists() {
-        return this.assists;
+        return version().assists;
     }
 
     public int getBlocks() {
-        return this.blocks;
+        return version().blocks;
     }
 
     public int getRebounds() {
-        return this.rebounds;
+        return version().rebounds;
     }
 
     public void addPoints(int points) {
-        this.points += points;
+        change(v -> new PerformanceStats(v.points + points, v.assists, v.blocks, v.rebounds));
         EventLog.getInstance().logEvent(new Event("Added " + points + " points."));
+        notifyPlayer();
     }
 
     public void addAssists(int assists) {
-        this.assists += assists;
+        change(v -> new PerformanceStats(v.points, v.assists + assists, v.blocks, v.rebounds));
         EventLog.getInstance().logEvent(new Event("Added " + assists + " assists."));
+        notifyPlayer();
     }
 
     public void addBlocks(int blocks) {
-        this.blocks += blocks;
+        change(v -> new PerformanceStats(v.points, v.assists, v.blocks + blocks, v.rebounds));
         EventLog.getInstance().logEvent(new Event("Added " + blocks + " blocks."));
+        notifyPlayer();
     }
 
     public void addRebounds(int rebounds) {
-        this.rebounds += rebounds;
+        change(v -> new PerformanceStats(v.points, v.assists, v.blocks, v.rebounds + rebounds));
         EventLog.getInstance().logEvent(new Event("Added " + rebounds + " rebounds."));
+        notifyPlayer();
     }
 
     public void setPoints(int points) {
-        this.points = points;
+        change(v -> new PerformanceStats(points, v.assists, v.blocks, v.rebounds));
     }
 
     public void setAssists(int assists) {
-        this.assists = assists;
+        change(v -> new PerformanceStats(v.points, assists, v.blocks, v.rebounds));
     }
 
     public void setBlocks(int blocks) {
-        this.blocks = blocks;
+        change(v -> new PerformanceStats(v.points, v.assists, blocks, v.rebounds));
     }
 
     public void setRebounds(int rebounds) {
-        this.rebounds = rebounds;
+        change(v -> new PerformanceStats(v.points, v.assists, v.blocks, rebounds));
+    }
+
+    // EFFECTS: returns a version of these statistics with a whole stat line added to the current values
+    PerformanceStats plus(int points, int assists, int rebounds, int blocks) {
+        PerformanceStats v = version();
+        return new PerformanceStats(v.points + points, v.assists + assists, v.blocks + blocks,
+                v.rebounds + rebounds);
+    }
+
+    // EFFECTS: returns the current values as an unchangeable version; a version is its own version
+    PerformanceStats version() {
+        if (this.current == null) {
+            return this;
+        }
+        Player owner = this.player;
+        return owner == null ? this.current.get() : owner.version().stats();
+    }
+
+    // EFFECTS: returns false if this is a version, which cannot be changed
+    boolean isLive() {
+        return this.current != null;
+    }
+
+    // REQUIRES: isLive()
+    // MODIFIES: this
+    // EFFECTS: makes these statistics read and change those of player from now on
+    void setPlayer(Player player) {
+        this.player = player;
+    }
+
+    // EFFECTS: returns the reference holding the current values of statistics that belong to no player; throws
+    //          UnsupportedOperationException if this is a version, which cannot be changed
+    private AtomicReference<PerformanceStats> liveState() {
+        if (this.current == null) {
+            throw new UnsupportedOperationException("A snapshot of performance statistics cannot be changed");
+        }
+        return this.current;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the current values by change applied to them, in the player they belong to if any
+    private void change(UnaryOperator<PerformanceStats> change) {
+        AtomicReference<PerformanceStats> own = liveState();
+        Player owner = this.player;
+        if (owner == null) {
+            own.updateAndGet(change);
+        } else {
+            owner.changeStats(change);
+        }
+    }
+
+    // EFFECTS: tells the player these statistics belong to, if any, that they have been modified
+    private void notifyPlayer() {
+        Player owner = this.player;
+        if (owner != null) {
+            owner.notifyTeam();
+        }
     }
 
     @Override
     public JSONObject toJson() {
+        PerformanceStats state = version();
         JSONObject jsonStats = new JSONObject();
-        jsonStats.put("points", this.points);
-        jsonStats.put("assists", this.assists);
-        jsonStats.put("blocks", this.blocks);
-        jsonStats.put("rebounds", this.rebounds);
+        jsonStats.put("points", state.points);
+        jsonStats.put("assists", state.assists);
+        jsonStats.put("blocks", state.blocks);
+        jsonStats.put("rebounds", state.rebounds);
 
         return jsonStats;
     }
 }
-
@@ -0,0 +1,209 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * PersistentList is an immutable list that is never modified in place: plus returns a new list that shares
+ * all but O(log n) of its structure with the old one, and so does replace. It is a height-balanced tree indexed
+ * by position, so get, insertion and replacement at any index take O(log n) and iteration takes O(n). Holding on
+ * to a PersistentList is therefore a free, permanent snapshot of its contents. As a java.util.List it is read-only.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    // EFFECTS: returns the empty list
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    // EFFECTS: returns a list holding the elements of source in the same order
+    public static <E> PersistentList<E> of(Collection<? extends E> source) {
+        if (source instanceof PersistentList) {
+            @SuppressWarnings("unchecked")
+            PersistentList<E> list = (PersistentList<E>) source;
+            return list;
+        }
+        Object[] elements = source.toArray();
+        return new PersistentList<>(build(elements, 0, elements.length));
+    }
+
+    // EFFECTS: returns this list with element appended
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    // REQUIRES: 0 <= index <= size()
+    // EFFECTS: returns this list with element inserted at index
+    public PersistentList<E> plus(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    // REQUIRES: 0 <= index < size()
+    // EFFECTS: returns this list with the element at index replaced by element
+    public PersistentList<E> replace(int index, E element) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    // EFFECTS: always throws UnsupportedOperationException, even when the list is empty
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    // EFFECTS: iterates over the elements in order, visiting each node once
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final Deque<Node<E>> path = descendLeft(new ArrayDeque<>(), root);
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                descendLeft(path, node.right);
+                return node.value;
+            }
+        };
+    }
+
+    // MODIFIES: path
+    // EFFECTS: pushes node and its chain of left children onto path and returns path
+    private static <E> Deque<Node<E>> descendLeft(Deque<Node<E>> path, Node<E> node) {
+        for (Node<E> n = node; n != null; n = n.left) {
+            path.push(n);
+        }
+        return path;
+    }
+
+    // EFFECTS: returns a balanced tree holding elements[from, to)
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), (E) elements[mid], build(elements, mid + 1, to));
+    }
+
+    // EFFECTS: returns a copy of the tree at node with value inserted at index, copying only the search path
+    private static <E> Node<E> insert(Node<E> node, int index, E value) {
+        if (node == null) {
+            return new Node<>(null, value, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, value), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, value));
+    }
+
+    // REQUIRES: 0 <= index < size of the tree at node
+    // EFFECTS: returns a copy of the tree at node with the value at index replaced, copying only the search path
+    private static <E> Node<E> replace(Node<E> node, int index, E value) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, value), node.value, node.right);
+        }
+        if (index == leftSize) {
+            return new Node<>(node.left, value, node.right);
+        }
+        return new Node<>(node.left, node.value, replace(node.right, index - leftSize - 1, value));
+    }
+
+    // REQUIRES: the heights of left and right differ by at most 2
+    // EFFECTS: returns a balanced tree holding left, then value, then right
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<E> pivot = left.right;
+            return new Node<>(new Node<>(left.left, left.value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, value, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<E> pivot = right.left;
+            return new Node<>(new Node<>(left, value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node that knows the size and height of the subtree it roots.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
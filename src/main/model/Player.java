@@ -2,6 +2,9 @@ package model;
 
 import org.json.JSONObject;
 
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
 
 /**
  * The Player class, a subclass of the TeamMember class, represents a
@@ -9,35 +12,56 @@ import org.json.JSONObject;
  * player's position, jersey number, height in cm, injury status, and
  * performance stats. The class provides methods to access and modify
  * these attributes. It also includes methods to set the player's position,
- * jersey number, height, and injury status.
+ * jersey number, height, and injury status. The position, jersey number and statistics may be read and changed
+ * from several threads without locking: a player keeps its current state as an immutable version, which every
+ * change replaces with compare-and-set and then publishes to the player's team. Versions are Players themselves,
+ * as found in team snapshots; they cannot be changed.
  */
 public class Player extends TeamMember {
 
-    private String position;
-    private int jerseyNumber;
-    private PerformanceStats stats;
+    private final Position position;
+    private final int jerseyNumber;
+    private volatile PerformanceStats stats;
+    private final Player handle;
+    private final AtomicReference<Player> current;
+    private volatile Team team;
+    private volatile int slot;
 
     // REQUIRES: New player cannot have the same jersey number as a pre-existing player
     // EFFECTS: Initializes a new Player object with the given name, position, age, jersey number, height,
     // and sets injury status to false, and logs the event
-    public Player(String name, int age, String position) {
+    public Player(String name, int age, Position position) {
         super(name, age);
         this.position = position;
         this.jerseyNumber = 0;
+        this.handle = this;
+        this.current = new AtomicReference<>(new Player(this, position, 0, PerformanceStats.ZERO));
         this.stats = new PerformanceStats();
+        this.stats.setPlayer(this);
         EventLog.getInstance().logEvent(new Event("New player created: " + name));
     }
 
+    // EFFECTS: Initializes an unchangeable version of the player handle with the given state without logging an
+    //          event
+    private Player(Player handle, Position position, int jerseyNumber, PerformanceStats stats) {
+        super(handle.name, handle.age);
+        this.handle = handle;
+        this.position = position;
+        this.jerseyNumber = jerseyNumber;
+        this.stats = stats;
+        this.current = null;
+    }
+
     // EFFECTS: Returns the position of the player and logs the event
-    public String getPosition() {
+    public Position getPosition() {
         EventLog.getInstance().logEvent(new Event("Position accessed for player: " + this.name));
-        return this.position;
+        return position();
     }
 
     // EFFECTS: Returns the jersey number of the player and logs the event
     public int getJerseyNumber() {
         EventLog.getInstance().logEvent(new Event("Jersey number accessed for player: " + this.name));
-        return this.jerseyNumber;
+        return jerseyNumber();
     }
 
     // EFFECTS: Returns the performance statistics of the player and logs the event
@@ -46,36 +70,140 @@ public class Player extends TeamMember {
         return this.stats;
     }
 
-    // REQUIRES: position is one of PG, SG, SF, PF, C
     // MODIFIES: this
     // EFFECTS: Sets the position of the player and logs the event
-    public void setPosition(String position) {
-        this.position = position;
+    public void setPosition(Position position) {
+        update(v -> v.with(position, v.jerseyNumber, v.stats));
+        Team owner = this.team;
+        if (owner != null) {
+            owner.positionChanged(this);
+        }
         EventLog.getInstance().logEvent(new Event("Player position set to " + position));
+        notifyTeam();
+    }
+
+    // EFFECTS: returns the position of the player without logging an event, for indexes and views that read it
+    //          repeatedly
+    public Position position() {
+        return version().position;
+    }
+
+    // EFFECTS: returns the jersey number of the player without logging an event, for views that read it repeatedly
+    public int jerseyNumber() {
+        return version().jerseyNumber;
+    }
+
+    // EFFECTS: returns the performance statistics of the player without logging an event
+    PerformanceStats stats() {
+        return this.stats;
     }
 
     // REQUIRES: jersey number must be unique in team
     // MODIFIES: this
     // EFFECTS: Sets the jersey number of the player and logs the event
     public void setJerseyNumber(int jerseyNumber) {
-        this.jerseyNumber = jerseyNumber;
+        update(v -> v.with(v.position, jerseyNumber, v.stats));
         EventLog.getInstance().logEvent(new Event("Jersey number set to " + jerseyNumber));
+        notifyTeam();
     }
 
+    // MODIFIES: this, perform
+    // EFFECTS: gives the player perform's current values; unless perform is part of a snapshot, it reads and
+    //          changes this player's statistics from now on
     public void setStats(PerformanceStats perform) {
-        this.stats = perform;
+        PerformanceStats values = perform.version();
+        update(v -> v.with(v.position, v.jerseyNumber, values));
+        if (perform.isLive()) {
+            perform.setPlayer(this);
+            this.stats = perform;
+        }
+        notifyTeam();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the player's statistics by change applied to them
+    void changeStats(UnaryOperator<PerformanceStats> change) {
+        update(v -> v.with(v.position, v.jerseyNumber, change.apply(v.stats)));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a whole stat line at once, without logging, publishing or telling the team; used by
+    //          Team.recordBoxScore, which publishes and reports the box score as a single modification
+    void addStatLine(int points, int assists, int rebounds, int blocks) {
+        liveState().updateAndGet(v -> v.with(v.position, v.jerseyNumber,
+                v.stats.plus(points, assists, rebounds, blocks)));
+    }
+
+    // EFFECTS: returns the live player this is a version of; a live player is its own handle
+    Player handle() {
+        return this.handle;
+    }
+
+    // EFFECTS: returns the current state of this player as an unchangeable version; a version is its own version
+    Player version() {
+        return this.current == null ? this : this.current.get();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the team this player belongs to and the player's row in its roster
+    void setTeam(Team team, int slot) {
+        this.slot = slot;
+        this.team = team;
+    }
+
+    // EFFECTS: returns the team this player belongs to, or null if it has not joined one
+    Team team() {
+        return this.team;
+    }
+
+    // EFFECTS: returns the player's row in the roster of its team
+    int slot() {
+        return this.slot;
+    }
+
+    // EFFECTS: returns a version of this player with the given position, jersey number and statistics
+    private Player with(Position position, int jerseyNumber, PerformanceStats stats) {
+        return new Player(this.handle, position, jerseyNumber, stats);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the current version by change applied to it and publishes it to the player's team, if any
+    private void update(UnaryOperator<Player> change) {
+        liveState().updateAndGet(change);
+        Team owner = this.team;
+        if (owner != null) {
+            owner.publish(this);
+        }
+    }
+
+    // EFFECTS: returns the reference holding this player's current version; throws UnsupportedOperationException
+    //          if this is a version, which cannot be changed
+    private AtomicReference<Player> liveState() {
+        if (this.current == null) {
+            throw new UnsupportedOperationException("A snapshot of a player cannot be changed");
+        }
+        return this.current;
+    }
+
+    // EFFECTS: tells the team this player belongs to, if any, that the player has been modified
+    void notifyTeam() {
+        Team owner = this.team;
+        if (owner != null) {
+            owner.playerChanged(this);
+        }
     }
 
     @Override
     public JSONObject toJson() {
+        Player state = version();
         JSONObject jsonPlayer = new JSONObject();
         jsonPlayer.put("name", this.name);
         jsonPlayer.put("age", this.age);
-        jsonPlayer.put("position", this.position);
-        jsonPlayer.put("jerseyNumber", this.jerseyNumber);
+        jsonPlayer.put("position", state.position.name());
+        jsonPlayer.put("jerseyNumber", state.jerseyNumber);
 
         // Performance stats (assuming performance stats have their own toJson method)
-        jsonPlayer.put("stats", this.stats.toJson());
+        jsonPlayer.put("stats", state.stats.toJson());
 
         return jsonPlayer;
     }
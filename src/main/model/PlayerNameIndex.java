@@ -0,0 +1,104 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * PlayerNameIndex finds players by approximate name. Every name is lower-cased, padded with spaces and broken into
+ * its three-character substrings (trigrams), and each trigram maps to the players whose names contain it. A query
+ * only visits the players that share at least one trigram with it and ranks them by how much of the two trigram
+ * sets overlap, so a misspelt or partly typed name still finds the right player without scanning the roster.
+ * Names that start with the query rank first, which keeps typeahead natural.
+ */
+class PlayerNameIndex {
+    static final double MIN_SIMILARITY = 0.2;
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private final List<Player> players = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<Integer> trigramCounts = new ArrayList<>();
+    private final Map<String, List<Integer>> postings = new HashMap<>();
+    private final Map<String, List<Player>> exact = new HashMap<>();
+
+    // MODIFIES: this
+    // EFFECTS: indexes player under the trigrams of its name
+    synchronized void add(Player player) {
+        int id = players.size();
+        Set<String> trigrams = trigramsOf(player.getName());
+        players.add(player);
+        names.add(normalize(player.getName()));
+        trigramCounts.add(trigrams.size());
+        for (String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(id);
+        }
+        exact.computeIfAbsent(names.get(id), key -> new ArrayList<>()).add(player);
+    }
+
+    // EFFECTS: returns the first player added whose name equals name ignoring case and surrounding spaces,
+    //          or null if there is none
+    synchronized Player find(String name) {
+        List<Player> matches = exact.get(normalize(name));
+        return matches == null ? null : matches.get(0);
+    }
+
+    // EFFECTS: returns up to limit players whose names resemble query, best match first: names starting with
+    //          query come before the rest, then higher trigram overlap, then earlier-added players
+    synchronized List<Player> suggest(String query, int limit) {
+        Set<String> queryTrigrams = trigramsOf(query);
+        Map<Integer, Integer> shared = sharedTrigrams(queryTrigrams);
+        String prefix = normalize(query);
+        List<double[]> ranked = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : shared.entrySet()) {
+            int id = entry.getKey();
+            double similarity = (double) entry.getValue()
+                    / (queryTrigrams.size() + trigramCounts.get(id) - entry.getValue());
+            boolean startsWith = !prefix.isEmpty() && names.get(id).startsWith(prefix);
+            if (startsWith || similarity >= MIN_SIMILARITY) {
+                ranked.add(new double[] {startsWith ? 1 + similarity : similarity, id});
+            }
+        }
+        ranked.sort((a, b) -> a[0] != b[0] ? Double.compare(b[0], a[0]) : Double.compare(a[1], b[1]));
+        List<Player> result = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, ranked.size()); i++) {
+            result.add(players.get((int) ranked.get(i)[1]));
+        }
+        return result;
+    }
+
+    // EFFECTS: returns, for every player sharing at least one of trigrams, how many of them it shares
+    private Map<Integer, Integer> sharedTrigrams(Set<String> trigrams) {
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (int id : postings.getOrDefault(trigram, List.of())) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+        return shared;
+    }
+
+    // EFFECTS: returns name lower-cased, with surrounding spaces removed and inner runs of spaces collapsed
+    private static String normalize(String name) {
+        return SPACES.matcher(name.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    // EFFECTS: returns the distinct trigrams of the normalized name, each word padded with two leading spaces
+    //          and one trailing space so that short names and word starts have trigrams of their own
+    private static Set<String> trigramsOf(String name) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : normalize(name).split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
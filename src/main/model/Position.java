@@ -0,0 +1,31 @@
+package model;
+
+/**
+ * The five positions a basketball player can play: point guard, shooting guard, small forward,
+ * power forward and center.
+ */
+public enum Position {
+    PG, SG, SF, PF, C;
+
+    // EFFECTS: returns the position abbreviated by text, ignoring case;
+    //          throws IllegalArgumentException if text is not one of PG, SG, SF, PF or C
+    public static Position parse(String text) {
+        if (text != null && text.length() == 1 && Character.toUpperCase(text.charAt(0)) == 'C') {
+            return C;
+        }
+        if (text != null && text.length() == 2) {
+            char first = Character.toUpperCase(text.charAt(0));
+            char second = Character.toUpperCase(text.charAt(1));
+            if (first == 'P' && second == 'G') {
+                return PG;
+            } else if (first == 'S' && second == 'G') {
+                return SG;
+            } else if (first == 'S' && second == 'F') {
+                return SF;
+            } else if (first == 'P' && second == 'F') {
+                return PF;
+            }
+        }
+        throw new IllegalArgumentException("Position must be one of PG, SG, SF, PF or C: " + text);
+    }
+}
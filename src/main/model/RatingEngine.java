@@ -0,0 +1,180 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RatingEngine keeps an Elo-style strength rating for every team it tracks and for every opponent named in their
+ * games. Ratings are held in primitive arrays indexed by a team id assigned the first time a name is seen. Once a
+ * team is tracked, each result recorded or corrected through the Game setters moves both ratings right away: the
+ * game's previous adjustment, if any, is taken back and the new result is rated at the current ratings. rebuild
+ * instead recomputes every rating from scratch in one pass over all played games in date order. A league game
+ * appears in the schedules of both teams that played it, so a meeting (same day, same two teams) is rated once,
+ * and a correction recorded on either team's copy of the game replaces the meeting's earlier adjustment.
+ */
+public class RatingEngine implements GameResultObserver {
+    public static final double INITIAL_RATING = 1500;
+    public static final double DEFAULT_K_FACTOR = 20;
+    private static final double SCALE = 400;
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+    private static final long DAY_OFFSET = 1L << 30;
+    private final double kFactor;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final Map<String, Rated> rated = new HashMap<>();
+    private double[] ratings = new double[16];
+    private int[] gamesRated = new int[16];
+
+    // EFFECTS: constructs an engine that moves ratings by at most kFactor points per game
+    public RatingEngine(double kFactor) {
+        this.kFactor = kFactor;
+    }
+
+    // EFFECTS: constructs an engine with the default K factor
+    public RatingEngine() {
+        this(DEFAULT_K_FACTOR);
+    }
+
+    // EFFECTS: returns the rating of the team or opponent called name, or INITIAL_RATING if it has never played
+    public synchronized double getRating(String name) {
+        Integer id = ids.get(name);
+        return id == null ? INITIAL_RATING : ratings[id];
+    }
+
+    // EFFECTS: returns the number of games currently counted in the rating of name
+    public synchronized int getGamesRated(String name) {
+        Integer id = ids.get(name);
+        return id == null ? 0 : gamesRated[id];
+    }
+
+    // EFFECTS: returns the probability the Elo model gives name winning against opponentName
+    public synchronized double getWinProbability(String name, String opponentName) {
+        return expected(getRating(name), getRating(opponentName));
+    }
+
+    // MODIFIES: this, team
+    // EFFECTS: starts rating results recorded from now on for team's games; games that already have a result
+    //          are only counted by rebuild
+    public synchronized void track(Team team) {
+        idOf(team.getTeamName());
+        team.addResultObserver(this);
+    }
+
+    // MODIFIES: this, teams
+    // EFFECTS: tracks every team in teams, forgets all ratings and rates every played game of those teams
+    //          in date order
+    public synchronized void rebuild(Collection<Team> teams) {
+        Arrays.fill(ratings, INITIAL_RATING);
+        Arrays.fill(gamesRated, 0);
+        rated.clear();
+        List<Team> owners = new ArrayList<>();
+        List<Game> games = new ArrayList<>();
+        for (Team team : teams) {
+            track(team);
+            for (Game game : team.getGames()) {
+                owners.add(team);
+                games.add(game);
+            }
+        }
+        long[] order = new long[games.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (dayOf(games.get(i)) << 32) | i;
+        }
+        Arrays.sort(order);
+        for (long key : order) {
+            int i = (int) key;
+            rate(owners.get(i), games.get(i));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: takes back the previous adjustment for game's meeting, whichever team's copy of the game it was
+    //          rated from, and rates game's current result
+    @Override
+    public synchronized void gameResultChanged(Team team, Game game) {
+        Rated previous = rated.remove(meetingKey(team.getTeamName(), game));
+        if (previous != null) {
+            adjust(previous.team, previous.opponent, -previous.delta, -1);
+        }
+        rate(team, game);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if game has a result and its meeting has not been rated yet (from either team's schedule),
+    //          moves both ratings by the Elo adjustment for that result
+    private void rate(Team team, Game game) {
+        if (!TeamRecord.isPlayed(game.getHomeScore(), game.getOpponentScore(), game.getIsWin())) {
+            return;
+        }
+        String meeting = meetingKey(team.getTeamName(), game);
+        if (rated.containsKey(meeting)) {
+            return;
+        }
+        int teamId = idOf(team.getTeamName());
+        int opponentId = idOf(game.getOpponentName());
+        double actual = game.getIsWin() ? 1 : 0;
+        double delta = kFactor * (actual - expected(ratings[teamId], ratings[opponentId]));
+        adjust(teamId, opponentId, delta, 1);
+        rated.put(meeting, new Rated(teamId, opponentId, delta));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves teamId's rating by delta and opponentId's by -delta, and both games counts by games
+    private void adjust(int teamId, int opponentId, double delta, int games) {
+        ratings[teamId] += delta;
+        ratings[opponentId] -= delta;
+        gamesRated[teamId] += games;
+        gamesRated[opponentId] += games;
+    }
+
+    // EFFECTS: returns the expected score of a team rated rating against one rated opponentRating
+    private static double expected(double rating, double opponentRating) {
+        return 1 / (1 + Math.pow(10, (opponentRating - rating) / SCALE));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the id of name, assigning the next free id (and growing the arrays) if it is new
+    private int idOf(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = ids.size();
+            ids.put(name, id);
+            if (id == ratings.length) {
+                ratings = Arrays.copyOf(ratings, id * 2);
+                gamesRated = Arrays.copyOf(gamesRated, id * 2);
+            }
+            ratings[id] = INITIAL_RATING;
+        }
+        return id;
+    }
+
+    // EFFECTS: returns the day game is played on as a non-negative number that sorts in date order
+    private static long dayOf(Game game) {
+        return Math.floorDiv(game.getDate().getTime(), MILLIS_PER_DAY) + DAY_OFFSET;
+    }
+
+    // EFFECTS: returns a key that is the same for a game and its copy in the opponent's schedule
+    private static String meetingKey(String teamName, Game game) {
+        String opponent = game.getOpponentName();
+        boolean first = teamName.compareTo(opponent) <= 0;
+        return dayOf(game) + "|" + (first ? teamName : opponent) + "|" + (first ? opponent : teamName);
+    }
+
+    /**
+     * The adjustment made for one rated meeting, kept so that a later correction can take it back.
+     */
+    private static final class Rated {
+        private final int team;
+        private final int opponent;
+        private final double delta;
+
+        private Rated(int team, int opponent, double delta) {
+            this.team = team;
+            this.opponent = opponent;
+            this.delta = delta;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * RosterIndex keeps a team's players grouped by position and sorted by age, so the team can answer
+ * "all players at a position", "all players in an age band" and both combined without scanning the roster.
+ * Within a group players are kept in the order they were added.
+ */
+class RosterIndex {
+    private final Map<Position, Set<Player>> byPosition = new EnumMap<>(Position.class);
+    private final NavigableMap<Integer, Set<Player>> byAge = new TreeMap<>();
+
+    // MODIFIES: this
+    // EFFECTS: indexes player under its current position and age
+    synchronized void add(Player player) {
+        byAge.computeIfAbsent(player.getAge(), age -> new LinkedHashSet<>()).add(player);
+        positionChanged(player);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves player to the group of its current position, whatever group it was in before; since every
+    //          move reads the position afresh, moves may run in any order after the changes they follow
+    synchronized void positionChanged(Player player) {
+        Position position = player.position();
+        if (byPosition.getOrDefault(position, Set.of()).contains(player)) {
+            return;
+        }
+        byPosition.values().removeIf(group -> group.remove(player) && group.isEmpty());
+        byPosition.computeIfAbsent(position, p -> new LinkedHashSet<>()).add(player);
+    }
+
+    // EFFECTS: returns the players at position
+    synchronized List<Player> atPosition(Position position) {
+        return new ArrayList<>(byPosition.getOrDefault(position, Set.of()));
+    }
+
+    // EFFECTS: returns the players aged minAge to maxAge inclusive, youngest first
+    synchronized List<Player> agedBetween(int minAge, int maxAge) {
+        List<Player> result = new ArrayList<>();
+        for (Set<Player> group : ageBand(minAge, maxAge)) {
+            result.addAll(group);
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the players at position aged minAge to maxAge inclusive, youngest first, by walking
+    //          the smaller of the two index results and keeping the players that are also in the other
+    synchronized List<Player> atPositionAgedBetween(Position position, int minAge, int maxAge) {
+        Set<Player> atPosition = byPosition.getOrDefault(position, Set.of());
+        Collection<Set<Player>> band = ageBand(minAge, maxAge);
+        List<Player> result = new ArrayList<>();
+        if (atPosition.size() <= sizeOf(band)) {
+            for (Player player : atPosition) {
+                if (player.getAge() >= minAge && player.getAge() <= maxAge) {
+                    result.add(player);
+                }
+            }
+            result.sort(Comparator.comparingInt(Player::getAge));
+            return result;
+        }
+        for (Set<Player> group : band) {
+            for (Player player : group) {
+                if (atPosition.contains(player)) {
+                    result.add(player);
+                }
+            }
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the number of players in groups
+    private static int sizeOf(Collection<Set<Player>> groups) {
+        int size = 0;
+        for (Set<Player> group : groups) {
+            size += group.size();
+        }
+        return size;
+    }
+
+    // EFFECTS: returns the age groups from minAge to maxAge inclusive, youngest first
+    private Collection<Set<Player>> ageBand(int minAge, int maxAge) {
+        if (minAge > maxAge) {
+            return List.of();
+        }
+        return byAge.subMap(minAge, true, maxAge, true).values();
+    }
+}
@@ -0,0 +1,14 @@
+package model;
+
+/**
+ * RosterObserver represents an object that wants to be told which row of a team's roster changed whenever a
+ * player joins the team or a player on it is modified (Observer Design Pattern). Players keep their row for as
+ * long as they are on the team, in the order they joined.
+ */
+public interface RosterObserver {
+    // EFFECTS: reacts to player joining team as row index of its roster
+    void playerAdded(Team team, Player player, int index);
+
+    // EFFECTS: reacts to player, at row index of team's roster, being modified
+    void playerChanged(Team team, Player player, int index);
+}
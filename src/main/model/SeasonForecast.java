@@ -0,0 +1,57 @@
+package model;
+
+import java.util.List;
+
+/**
+ * SeasonForecast is the result of a season simulation: for every remaining game, the fraction of simulated
+ * seasons in which the team won it, and the distribution of the team's final number of wins.
+ */
+public final class SeasonForecast {
+    private final List<Game> remainingGames;
+    private final int currentWins;
+    private final long seasons;
+    private final long[] gameWins;
+    private final long[] finalWins;
+
+    // EFFECTS: constructs a forecast from the number of simulated seasons in which each remaining game was won
+    //          and in which the team won each possible number of its remaining games
+    SeasonForecast(List<Game> remainingGames, int currentWins, long seasons, long[] gameWins, long[] finalWins) {
+        this.remainingGames = List.copyOf(remainingGames);
+        this.currentWins = currentWins;
+        this.seasons = seasons;
+        this.gameWins = gameWins;
+        this.finalWins = finalWins;
+    }
+
+    public List<Game> getRemainingGames() {
+        return remainingGames;
+    }
+
+    public long getSeasons() {
+        return seasons;
+    }
+
+    // REQUIRES: 0 <= index < getRemainingGames().size()
+    // EFFECTS: returns the probability of winning the remaining game at index
+    public double getWinProbability(int index) {
+        return (double) gameWins[index] / seasons;
+    }
+
+    // EFFECTS: returns the probability that the team ends the season with exactly wins wins
+    public double getFinalWinsProbability(int wins) {
+        int extra = wins - currentWins;
+        if (extra < 0 || extra >= finalWins.length) {
+            return 0;
+        }
+        return (double) finalWins[extra] / seasons;
+    }
+
+    // EFFECTS: returns the expected number of wins at the end of the season
+    public double getExpectedWins() {
+        double expected = currentWins;
+        for (int i = 0; i < gameWins.length; i++) {
+            expected += getWinProbability(i);
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,153 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * SeasonSimulator forecasts the rest of a team's season by playing out its remaining games many times.
+ * In each simulated game every player scores a draw from their own scoring distribution, centered on their
+ * points per game so far with Poisson-like spread, and the opponent's score is drawn around the team's
+ * expected score less the margin the team has historically had against that opponent (shrunk toward its
+ * overall margin when there are few meetings). Ties go to overtime, decided by a coin flip.
+ * Seasons are split into batches run in parallel on the common ForkJoinPool, each batch with its own
+ * SplittableRandom stream and primitive counters, so results are reproducible for a given seed.
+ */
+public class SeasonSimulator {
+    private static final double DEFAULT_TEAM_SCORE = 70;
+    private static final double PRIOR_MEETINGS = 2;
+    private static final long SEASONS_PER_BATCH = 20_000;
+    private final long seed;
+
+    // EFFECTS: constructs a simulator whose random streams all derive from seed
+    public SeasonSimulator(long seed) {
+        this.seed = seed;
+    }
+
+    // REQUIRES: seasons > 0
+    // EFFECTS: simulates the team's remaining games (those without a result) seasons times
+    public SeasonForecast simulate(Team team, long seasons) {
+        List<Game> remaining = new ArrayList<>();
+        for (Game game : team.getGames()) {
+            if (!TeamRecord.isPlayed(game.getHomeScore(), game.getOpponentScore(), game.getIsWin())) {
+                remaining.add(game);
+            }
+        }
+        Model model = new Model(team, remaining);
+        long[] tally = ForkJoinPool.commonPool().invoke(new Batch(model, seasons, new SplittableRandom(seed)));
+        int games = remaining.size();
+        long[] gameWins = new long[games];
+        long[] finalWins = new long[games + 1];
+        System.arraycopy(tally, 0, gameWins, 0, games);
+        System.arraycopy(tally, games, finalWins, 0, games + 1);
+        return new SeasonForecast(remaining, team.getRecord().getWins(), seasons, gameWins, finalWins);
+    }
+
+    /**
+     * The scoring distributions used by the simulation, laid out in primitive arrays.
+     */
+    private static final class Model {
+        private final double[] playerMeans;
+        private final double[] playerDeviations;
+        private final double[] opponentMeans;
+        private final double opponentDeviation;
+
+        // EFFECTS: derives each player's scoring distribution and each remaining game's opponent scoring
+        //          distribution from team's recorded stats and results
+        private Model(Team team, List<Game> remaining) {
+            TeamRecord record = team.getRecord();
+            int played = record.getWins() + record.getLosses();
+            List<Player> players = team.getPlayers();
+            // with no results yet the whole team is modelled as one scorer with a typical team score
+            playerMeans = new double[played == 0 ? 1 : players.size()];
+            playerDeviations = new double[playerMeans.length];
+            double teamMean = 0;
+            for (int i = 0; i < playerMeans.length; i++) {
+                int points = played == 0 ? 0 : players.get(i).stats().getPoints();
+                playerMeans[i] = played == 0 ? DEFAULT_TEAM_SCORE : (double) points / played;
+                playerDeviations[i] = Math.sqrt(playerMeans[i]);
+                teamMean += playerMeans[i];
+            }
+            opponentDeviation = Math.sqrt(teamMean);
+            opponentMeans = new double[remaining.size()];
+            for (int g = 0; g < opponentMeans.length; g++) {
+                opponentMeans[g] = teamMean - expectedMargin(team, record, remaining.get(g).getOpponentName());
+            }
+        }
+
+        // EFFECTS: returns the margin the team is expected to win by against opponentName: its average margin
+        //          against them, shrunk toward its overall average margin when they have met only a few times
+        private static double expectedMargin(Team team, TeamRecord record, String opponentName) {
+            HeadToHead history = team.getHeadToHead(opponentName);
+            int meetings = history == null ? 0 : history.getRecord().getWins() + history.getRecord().getLosses();
+            double headToHead = meetings == 0 ? 0 : history.getAverageMargin();
+            return (meetings * headToHead + PRIOR_MEETINGS * record.getAverageMargin()) / (meetings + PRIOR_MEETINGS);
+        }
+
+        // EFFECTS: returns true if the team wins a simulated game against the opponent of remaining game g
+        private boolean playGame(int g, SplittableRandom random) {
+            long teamScore = 0;
+            for (int i = 0; i < playerMeans.length; i++) {
+                teamScore += draw(playerMeans[i], playerDeviations[i], random);
+            }
+            long opponentScore = draw(opponentMeans[g], opponentDeviation, random);
+            return teamScore == opponentScore ? random.nextBoolean() : teamScore > opponentScore;
+        }
+
+        // EFFECTS: returns a non-negative whole number of points drawn around mean
+        private static long draw(double mean, double deviation, SplittableRandom random) {
+            return Math.max(0, Math.round(mean + deviation * random.nextGaussian()));
+        }
+    }
+
+    /**
+     * A batch of simulated seasons. Its result holds, for each remaining game, the number of seasons in which
+     * it was won, followed by the number of seasons in which 0, 1, ... of the remaining games were won.
+     */
+    private static final class Batch extends RecursiveTask<long[]> {
+        private final Model model;
+        private final long seasons;
+        private final SplittableRandom random;
+
+        private Batch(Model model, long seasons, SplittableRandom random) {
+            this.model = model;
+            this.seasons = seasons;
+            this.random = random;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (seasons <= SEASONS_PER_BATCH) {
+                return run();
+            }
+            Batch left = new Batch(model, seasons / 2, random.split());
+            Batch right = new Batch(model, seasons - seasons / 2, random.split());
+            left.fork();
+            long[] tally = right.compute();
+            long[] other = left.join();
+            for (int i = 0; i < tally.length; i++) {
+                tally[i] += other[i];
+            }
+            return tally;
+        }
+
+        // EFFECTS: simulates this batch's seasons one after another
+        private long[] run() {
+            int games = model.opponentMeans.length;
+            long[] tally = new long[games + games + 1];
+            for (long season = 0; season < seasons; season++) {
+                int wins = 0;
+                for (int g = 0; g < games; g++) {
+                    if (model.playGame(g, random)) {
+                        tally[g]++;
+                        wins++;
+                    }
+                }
+                tally[games + wins]++;
+            }
+            return tally;
+        }
+    }
+}
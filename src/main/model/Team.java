@@ -1,11 +1,19 @@
 package model;
 
-import org.json.JSONArray;
+import metrics.GameOutcomeEvent;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
 import org.json.JSONObject;
 import persistence.Writable;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * The 'Team' class, part of the 'model' package, encapsulates a basketball team.
@@ -14,24 +22,52 @@ import java.util.Date;
  * These include adding and removing players from the team based on their age eligibility,
  * finding players by their positions, and adding games to the team's schedule
  * in chronological order. It also allows viewing the opponent of the next upcoming game.
+ * A team may be used from several threads at once. Its state is an immutable TeamSnapshot that every
+ * modification replaces with compare-and-set, so readers never block and never see a half-made change to
+ * its lists. The team's players, games and training sessions likewise keep their state as immutable versions
+ * replaced with compare-and-set, so no lock is shared by the roster, the schedule and the sessions. The roster
+ * index and the record each follow those versions under their own lock: the roster index moves a player to
+ * its current position, and the record moves a game's contribution from the version it last counted to the
+ * current one, so both end up right whatever order concurrent changes reach them in. Every change to an entity
+ * is published into the team's state by replacing its version there, so snapshot() just hands out the current
+ * state, with no copy and no lock; the getters show the live entities in that state's order.
  */
 
 public class Team implements Writable {
+    private static final LatencyHistogram ADD_MEMBER_LATENCY =
+            MetricsRegistry.getInstance().histogram("Team.addMember");
+    private static final LatencyHistogram ADD_GAME_LATENCY = MetricsRegistry.getInstance().histogram("Team.addGame");
+    private static final LatencyHistogram FIND_PLAYER_LATENCY =
+            MetricsRegistry.getInstance().histogram("Team.findPlayerByJerseyNumber");
+    private static final ThreadLocal<Team> HYDRATING = new ThreadLocal<>();
     private final String name;
-    private ArrayList<Player> players;
     private final int lowerBoundAge;
     private final int upperBoundAge;
-    private ArrayList<Game> games;
-    private ArrayList<TrainingSession> session;
+    private final AtomicReference<TeamSnapshot> state;
+    private volatile Runnable pendingGames;
+    private volatile Runnable pendingSessions;
+    private final List<TeamObserver> observers;
+    private final List<GameResultObserver> resultObservers;
+    private final List<TrainingSessionObserver> sessionObservers;
+    private final List<RosterObserver> rosterObservers;
+    private final RosterIndex rosterIndex = new RosterIndex();
+    private final PlayerNameIndex nameIndex = new PlayerNameIndex();
+    private final TeamRecord record;
+    private final OpponentIndex opponentIndex = new OpponentIndex();
+    private final Lock gamesLoadLock = new ReentrantLock();
+    private final Lock sessionsLoadLock = new ReentrantLock();
 
     // EFFECTS: Initializes a new team with the specified name and age boundaries
     public Team(String name, int lowerBoundAge, int upperBoundAge) {
         this.name = name;
-        this.players = new ArrayList<>();
         this.lowerBoundAge = lowerBoundAge;
         this.upperBoundAge = upperBoundAge;
-        this.games = new ArrayList<>();
-        this.session = new ArrayList<>();
+        this.state = new AtomicReference<>(new TeamSnapshot(name, lowerBoundAge, upperBoundAge));
+        this.observers = new CopyOnWriteArrayList<>();
+        this.resultObservers = new CopyOnWriteArrayList<>();
+        this.sessionObservers = new CopyOnWriteArrayList<>();
+        this.rosterObservers = new CopyOnWriteArrayList<>();
+        this.record = new TeamRecord(() -> new HandleList<>(this.state.get().getGames(), Game::handle));
         EventLog.getInstance().logEvent(new Event("New team created: " + name));
     }
 
@@ -39,107 +75,507 @@ public class Team implements Writable {
         return this.name;
     }
 
-    public ArrayList<Player> getPlayers() {
-        return this.players;
+    // EFFECTS: returns a read-only snapshot of the roster
+    public List<Player> getPlayers() {
+        return new HandleList<>(this.state.get().getPlayers(), Player::handle);
     }
 
-    public ArrayList<Game> getGames() {
-        return this.games;
+    // EFFECTS: returns the players at position, in the order they joined the team
+    public List<Player> getPlayersAtPosition(Position position) {
+        return this.rosterIndex.atPosition(position);
+    }
+
+    // EFFECTS: returns the players aged minAge to maxAge inclusive, youngest first
+    public List<Player> getPlayersAgedBetween(int minAge, int maxAge) {
+        return this.rosterIndex.agedBetween(minAge, maxAge);
+    }
+
+    // EFFECTS: returns the players at position aged minAge to maxAge inclusive, youngest first
+    public List<Player> getPlayersAtPositionAgedBetween(Position position, int minAge, int maxAge) {
+        return this.rosterIndex.atPositionAgedBetween(position, minAge, maxAge);
+    }
+
+    // EFFECTS: returns the first player whose name equals name, ignoring case and extra spaces, or null if none
+    public Player findPlayerByName(String name) {
+        return this.nameIndex.find(name);
+    }
+
+    // EFFECTS: returns up to limit players whose names resemble query, best match first
+    public List<Player> suggestPlayers(String query, int limit) {
+        return this.nameIndex.suggest(query, limit);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves player to the roster index entry of its current position
+    void positionChanged(Player player) {
+        this.rosterIndex.positionChanged(player);
+    }
+
+    // MODIFIES: this, game
+    // EFFECTS: moves the game's contribution to the record and to its head-to-head record from the version they
+    //          last counted to its current version; does nothing if they already count the current version
+    void countResult(Game game) {
+        synchronized (this.record) {
+            Game before = game.counted();
+            Game after = game.version();
+            if (before == after) {
+                return;
+            }
+            game.setCounted(after);
+            this.record.update(game, before, after);
+            this.opponentIndex.update(game, before, after);
+        }
+    }
+
+    // EFFECTS: returns the team's win-loss record and other running totals over its games
+    public TeamRecord getRecord() {
+        hydrateGames();
+        return this.record;
+    }
+
+    // EFFECTS: returns the team's history against opponentName, or null if it has no game against them
+    public HeadToHead getHeadToHead(String opponentName) {
+        hydrateGames();
+        return this.opponentIndex.get(opponentName);
+    }
+
+    // EFFECTS: returns the names of every opponent the team has a game against
+    public Set<String> getOpponents() {
+        hydrateGames();
+        return this.opponentIndex.opponents();
+    }
+
+    // EFFECTS: returns a read-only snapshot of the game schedule, in chronological order
+    public List<Game> getGames() {
+        hydrateGames();
+        return new HandleList<>(this.state.get().getGames(), Game::handle);
+    }
+
+    // EFFECTS: returns the current version of the whole team, holding the current versions of its players, games
+    //          and training sessions; later modifications do not affect it
+    public TeamSnapshot snapshot() {
+        hydrateGames();
+        hydrateSessions();
+        return this.state.get();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the version of player in the team's state by its current version
+    void publish(Player player) {
+        publish(List.of(player), List.of(), List.of());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the version of game in the team's state by its current version
+    void publish(Game game) {
+        publish(List.of(), List.of(game), List.of());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the version of session in the team's state by its current version
+    void publish(TrainingSession session) {
+        publish(List.of(), List.of(), List.of(session));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the versions of players, games and sessions in the team's state by their current
+    //          versions in one new version of it; does nothing if it already holds them all
+    private void publish(List<Player> players, List<Game> games, List<TrainingSession> sessions) {
+        this.state.updateAndGet(current -> current.withCurrent(players, games, sessions));
     }
 
     // REQUIRES: player.getAge >= lowerBoundAge and player.getAge <= upperBoundAge
     // MODIFIES: this
     // EFFECTS: Adds the specified player to the team if their age is within the specified bounds
     public void addMember(Player player) {
-        this.players.add(player);
+        long start = System.nanoTime();
+        this.state.updateAndGet(current -> {
+            player.setTeam(this, current.getPlayers().size());
+            return current.withPlayers(current.getPlayers().plus(player.version()));
+        });
+        publish(player);
+        this.rosterIndex.add(player);
+        this.nameIndex.add(player);
         EventLog.getInstance().logEvent(new Event("Player added to team: " + player.getName()));
+        for (RosterObserver observer : this.rosterObservers) {
+            observer.playerAdded(this, player, player.slot());
+        }
+        notifyObservers();
+        ADD_MEMBER_LATENCY.recordSince(start);
     }
 
     // REQUIRES: no other game should be scheduled on same day
     // MODIFIES: this
     // EFFECTS: adds game to teams list of upcoming games
     public void addGame(Game game) {
-        Date newGameDate = game.getDate();
-        int i;
-        for (i = 0; i < games.size(); i++) {
-            if (games.get(i).getDate().after(newGameDate)) {
-                break;
+        long start = System.nanoTime();
+        hydrateGames();
+        Date date = game.getDate();
+        this.opponentIndex.add(game);
+        game.setTeam(this);
+        this.state.updateAndGet(current -> current.withGames(
+                current.getGames().plus(insertionPoint(current.getGames(), date), game.version())));
+        publish(game);
+        countResult(game);
+        EventLog.getInstance().logEvent(new Event("Game added to schedule: " + game.getOpponentName()));
+        if (TeamRecord.isPlayed(game.version())) {
+            notifyResultObservers(game);
+        }
+        notifyObservers();
+        ADD_GAME_LATENCY.recordSince(start);
+    }
+
+    // REQUIRES: games is in chronological order
+    // EFFECTS: returns the index just after the last game on or before date
+    private static int insertionPoint(List<Game> games, Date date) {
+        int low = 0;
+        int high = games.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (games.get(mid).getDate().after(date)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // MODIFIES: this, game, the stats of boxScore's players
+    // EFFECTS: records boxScore as the outcome of game in one operation: adds every player's stat line to their
+    //          stats and sets the game's scores and win status, publishing all of it as one new version of the
+    //          team, then logs one event and tells each kind of
+    //          observer once (roster observers once per changed row); throws IllegalArgumentException, changing
+    //          nothing, if game is not on this team's schedule or a player is not on its roster
+    public void recordBoxScore(Game game, BoxScore boxScore) {
+        checkBoxScore(game, boxScore);
+        GameOutcomeEvent event = new GameOutcomeEvent();
+        event.begin();
+        List<Player> players = boxScore.getPlayers();
+        int homeScore = boxScore.getHomeScore();
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).addStatLine(boxScore.getStat(i, BoxScore.POINTS), boxScore.getStat(i, BoxScore.ASSISTS),
+                    boxScore.getStat(i, BoxScore.REBOUNDS), boxScore.getStat(i, BoxScore.BLOCKS));
+        }
+        game.setResult(homeScore, boxScore.getOpponentScore(), homeScore > boxScore.getOpponentScore());
+        publish(players, List.of(game), List.of());
+        countResult(game);
+        EventLog.getInstance().logEvent(new Event("Box score recorded against " + game.getOpponentName() + ": "
+                + homeScore + "-" + boxScore.getOpponentScore()));
+        notifyBoxScoreRecorded(game, players);
+        event.end();
+        if (event.shouldCommit()) {
+            commitOutcomeEvent(event, game, boxScore);
+        }
+    }
+
+    // MODIFIES: event
+    // EFFECTS: fills in and commits the flight recorder event for recording boxScore as the outcome of game
+    private static void commitOutcomeEvent(GameOutcomeEvent event, Game game, BoxScore boxScore) {
+        event.opponent = game.getOpponentName();
+        event.statLines = boxScore.getPlayers().size();
+        event.homeScore = boxScore.getHomeScore();
+        event.opponentScore = boxScore.getOpponentScore();
+        event.commit();
+    }
+
+    // EFFECTS: throws IllegalArgumentException if game is not on this team's schedule or one of boxScore's
+    //          players is not on its roster
+    private void checkBoxScore(Game game, BoxScore boxScore) {
+        if (game.team() != this) {
+            throw new IllegalArgumentException("Game against " + game.getOpponentName() + " is not on the schedule");
+        }
+        for (Player player : boxScore.getPlayers()) {
+            if (player.team() != this) {
+                throw new IllegalArgumentException(player.getName() + " is not on the roster");
             }
         }
-        games.add(i, game);
-        EventLog.getInstance().logEvent(new Event("Game added to schedule: " + game.getOpponentName()));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: tells roster observers about each of players and result observers about game, then records the
+    //          modification once
+    private void notifyBoxScoreRecorded(Game game, List<Player> players) {
+        for (RosterObserver observer : this.rosterObservers) {
+            for (Player player : players) {
+                observer.playerChanged(this, player, player.slot());
+            }
+        }
+        notifyResultObservers(game);
+        childModified();
     }
 
     // MODIFIES: this
     // EFFECTS: Returns the opponent name of the next upcoming game or null if no upcoming games.
     public String viewGameSchedule() {
-        Date now = new Date();
-        for (Game game : this.games) {
-            if (game.getDate().after(now)) {
-                EventLog.getInstance().logEvent(new Event("Viewed game schedule."));
-                return game.getOpponentName();
-            }
+        List<Game> games = getGames();
+        int next = insertionPoint(games, new Date());
+        if (next == games.size()) {
+            return null;
         }
-        return null;
+        EventLog.getInstance().logEvent(new Event("Viewed game schedule."));
+        return games.get(next).getOpponentName();
     }
 
     // EFFECTS: Returns the player object if found in the team's player list; otherwise, returns null.
     public Player findPlayerByJerseyNumber(int jerseyNumber) {
-        for (Player player : this.players) {
-            if (player.getJerseyNumber() == jerseyNumber) {
-                EventLog.getInstance().logEvent(new Event("Player found by jersey number: " + jerseyNumber));
-                return player;
+        long start = System.nanoTime();
+        try {
+            for (Player player : getPlayers()) {
+                if (player.getJerseyNumber() == jerseyNumber) {
+                    EventLog.getInstance().logEvent(new Event("Player found by jersey number: " + jerseyNumber));
+                    return player;
+                }
             }
+            return null;
+        } finally {
+            FIND_PLAYER_LATENCY.recordSince(start);
         }
-        return null;
     }
 
-
-    public ArrayList<TrainingSession> getTrainingSessions() {
-        return this.session;
+    // EFFECTS: returns a read-only snapshot of the training sessions
+    public List<TrainingSession> getTrainingSessions() {
+        hydrateSessions();
+        return new HandleList<>(this.state.get().getTrainingSessions(), TrainingSession::handle);
     }
 
     // MODIFIES: this
     // EFFECTS: Adds a training session to the list of sessions for this team.
     public void addTrainingSession(TrainingSession trainingSession) {
-        this.session.add(trainingSession);
+        hydrateSessions();
+        this.state.updateAndGet(current -> {
+            trainingSession.setTeam(this, current.getTrainingSessions().size());
+            return current.withTrainingSessions(current.getTrainingSessions().plus(trainingSession.version()));
+        });
+        publish(trainingSession);
         EventLog.getInstance().logEvent(new Event("Training session added."));
+        notifySessionObservers(trainingSession);
+        notifyObservers();
     }
 
-    public void setGames(ArrayList<Game> pastGames) {
-        this.games = pastGames;
+    // REQUIRES: pastGames is in chronological order
+    // MODIFIES: this
+    // EFFECTS: replaces the team's games with pastGames
+    public void setGames(List<Game> pastGames) {
+        gamesLoadLock.lock();
+        try {
+            this.pendingGames = null;
+            this.state.updateAndGet(current -> current.withGames(versionsOf(pastGames)));
+        } finally {
+            gamesLoadLock.unlock();
+        }
+        synchronized (this.record) {
+            this.record.clear();
+            this.opponentIndex.clear();
+            for (Game game : pastGames) {
+                game.setCounted(null);
+                this.opponentIndex.add(game);
+                game.setTeam(this);
+                publish(game);
+                countResult(game);
+            }
+        }
         EventLog.getInstance().logEvent(new Event("Team games set."));
+        notifyObservers();
     }
 
-    @Override
-    public JSONObject toJson() {
-        JSONObject jsonTeam = new JSONObject();
-        jsonTeam.put("name", this.name);
-        jsonTeam.put("lowerBoundAge", this.lowerBoundAge);
-        jsonTeam.put("upperBoundAge", this.upperBoundAge);
+    // EFFECTS: returns the current versions of games, in order
+    private static PersistentList<Game> versionsOf(List<Game> games) {
+        List<Game> versions = new ArrayList<>(games.size());
+        for (Game game : games) {
+            versions.add(game.version());
+        }
+        return PersistentList.of(versions);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers observer to be told about every modification of this team
+    public void addObserver(TeamObserver observer) {
+        if (!this.observers.contains(observer)) {
+            this.observers.add(observer);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops telling observer about modifications of this team
+    public void removeObserver(TeamObserver observer) {
+        this.observers.remove(observer);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers observer to be told whenever one of this team's games gets or changes its result
+    public void addResultObserver(GameResultObserver observer) {
+        if (!this.resultObservers.contains(observer)) {
+            this.resultObservers.add(observer);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops telling observer about results of this team's games
+    public void removeResultObserver(GameResultObserver observer) {
+        this.resultObservers.remove(observer);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers observer to be told whenever one of this team's training sessions is added or modified
+    public void addTrainingSessionObserver(TrainingSessionObserver observer) {
+        if (!this.sessionObservers.contains(observer)) {
+            this.sessionObservers.add(observer);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops telling observer about this team's training sessions
+    public void removeTrainingSessionObserver(TrainingSessionObserver observer) {
+        this.sessionObservers.remove(observer);
+    }
 
-        // Players (assuming players have their own toJson method)
-        JSONArray jsonPlayers = new JSONArray();
-        for (Player player : this.players) {
-            jsonPlayers.put(player.toJson());
+    // MODIFIES: this
+    // EFFECTS: registers observer to be told which roster row changed whenever a player joins or is modified
+    public void addRosterObserver(RosterObserver observer) {
+        if (!this.rosterObservers.contains(observer)) {
+            this.rosterObservers.add(observer);
         }
-        jsonTeam.put("players", jsonPlayers);
+    }
 
-        // Games (assuming games have their own toJson method)
-        JSONArray jsonGames = new JSONArray();
-        for (Game game : this.games) {
-            jsonGames.put(game.toJson());
+    // MODIFIES: this
+    // EFFECTS: stops telling observer about changes to this team's roster
+    public void removeRosterObserver(RosterObserver observer) {
+        this.rosterObservers.remove(observer);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: tells every registered roster observer that player has been modified, then records the
+    //          modification
+    void playerChanged(Player player) {
+        for (RosterObserver observer : this.rosterObservers) {
+            observer.playerChanged(this, player, player.slot());
         }
-        jsonTeam.put("games", jsonGames);
+        childModified();
+    }
+
+    // EFFECTS: tells every registered observer that one of the team's players, games or training sessions has
+    //          been modified; the modification itself was published into the team's state when it was made
+    void childModified() {
+        notifyObservers();
+    }
 
-        // Training sessions (assuming training sessions have their own toJson method)
-        JSONArray jsonSessions = new JSONArray();
-        for (TrainingSession session : this.session) {
-            jsonSessions.put(session.toJson());
+    // MODIFIES: this
+    // EFFECTS: tells every registered result observer that game has a new result, then records the modification
+    void gameResultChanged(Game game) {
+        notifyResultObservers(game);
+        childModified();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: tells every registered session observer that session has been modified, then records the
+    //          modification
+    void trainingSessionChanged(TrainingSession session) {
+        notifySessionObservers(session);
+        childModified();
+    }
+
+    // EFFECTS: tells every registered session observer that session has been added or modified
+    private void notifySessionObservers(TrainingSession session) {
+        if (HYDRATING.get() == this) {
+            return;
         }
-        jsonTeam.put("trainingSessions", jsonSessions);
+        for (TrainingSessionObserver observer : this.sessionObservers) {
+            observer.trainingSessionChanged(this, session);
+        }
+    }
 
-        return jsonTeam;
+    // EFFECTS: tells every registered result observer that game has a new result
+    private void notifyResultObservers(Game game) {
+        if (HYDRATING.get() == this) {
+            return;
+        }
+        for (GameResultObserver observer : this.resultObservers) {
+            observer.gameResultChanged(this, game);
+        }
+    }
+
+    // EFFECTS: tells every registered observer that this team has been modified
+    private void notifyObservers() {
+        if (HYDRATING.get() == this) {
+            return;
+        }
+        for (TeamObserver observer : this.observers) {
+            observer.teamChanged(this);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: defers building the game schedule until it is first accessed; loader is run once
+    //          and is expected to add the stored games through addGame
+    public void deferGames(Runnable loader) {
+        this.pendingGames = loader;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: defers building the training sessions until they are first accessed; loader is run once
+    //          and is expected to add the stored sessions through addTrainingSession
+    public void deferTrainingSessions(Runnable loader) {
+        this.pendingSessions = loader;
+    }
+
+    // EFFECTS: returns true if the game schedule has been built
+    public boolean isGamesLoaded() {
+        return this.pendingGames == null;
+    }
+
+    // EFFECTS: returns true if the training sessions have been built
+    public boolean isTrainingSessionsLoaded() {
+        return this.pendingSessions == null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs the deferred game loader, if any; other threads wait until it has finished
+    private void hydrateGames() {
+        if (this.pendingGames != null && HYDRATING.get() != this) {
+            gamesLoadLock.lock();
+            try {
+                runLoader(this.pendingGames);
+                this.pendingGames = null;
+            } finally {
+                gamesLoadLock.unlock();
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs the deferred training session loader, if any; other threads wait until it has finished
+    private void hydrateSessions() {
+        if (this.pendingSessions != null && HYDRATING.get() != this) {
+            sessionsLoadLock.lock();
+            try {
+                runLoader(this.pendingSessions);
+                this.pendingSessions = null;
+            } finally {
+                sessionsLoadLock.unlock();
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs a deferred loader (if another thread has not already run it) without telling observers,
+    //          since loading does not modify the team
+    private void runLoader(Runnable loader) {
+        if (loader == null) {
+            return;
+        }
+        Team outer = HYDRATING.get();
+        HYDRATING.set(this);
+        try {
+            loader.run();
+        } finally {
+            HYDRATING.set(outer);
+        }
+    }
+
+    @Override
+    public JSONObject toJson() {
+        return snapshot().toJson();
     }
 
     public int getLowerBoundAge() {
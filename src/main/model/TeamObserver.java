@@ -0,0 +1,10 @@
+package model;
+
+/**
+ * TeamObserver represents an object that wants to be told whenever a team, or one of the players,
+ * games or training sessions belonging to it, is modified (Observer Design Pattern).
+ */
+public interface TeamObserver {
+    // EFFECTS: reacts to a modification of team
+    void teamChanged(Team team);
+}
@@ -0,0 +1,210 @@
+package model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * TeamRecord holds a team's running totals: wins, losses, points for and against, the record at each venue
+ * and the current streak. A game counts once it has a result, that is once either score is non-zero or it
+ * is marked as a win. Totals are adjusted in O(1) whenever a game is added to the team or one of the team's
+ * games changes its score or result, including corrections that reverse an earlier result; each adjustment
+ * moves a game's contribution from one of its versions to a later one. The streak is
+ * kept up to date in O(1) while results arrive in date order; after a correction to an older game it is
+ * recomputed from the schedule the next time it is read.
+ */
+public class TeamRecord {
+    private static final int WINS = 0;
+    private static final int LOSSES = 1;
+    private final Supplier<List<Game>> schedule;
+    private final Map<String, int[]> venueRecords = new HashMap<>();
+    private int wins;
+    private int losses;
+    private int pointsFor;
+    private int pointsAgainst;
+    private Game latest;
+    private int streak;
+    private int priorStreak;
+    private boolean streakStale;
+
+    // EFFECTS: constructs an empty record whose streak can be rebuilt from the games in schedule
+    TeamRecord(Supplier<List<Game>> schedule) {
+        this.schedule = schedule;
+    }
+
+    public synchronized int getWins() {
+        return wins;
+    }
+
+    public synchronized int getLosses() {
+        return losses;
+    }
+
+    public synchronized int getPointsFor() {
+        return pointsFor;
+    }
+
+    public synchronized int getPointsAgainst() {
+        return pointsAgainst;
+    }
+
+    // EFFECTS: returns points for minus points against
+    public synchronized int getPointDifferential() {
+        return pointsFor - pointsAgainst;
+    }
+
+    // EFFECTS: returns the average of points for minus points against per game with a result, or 0 if none
+    public synchronized double getAverageMargin() {
+        int played = wins + losses;
+        return played == 0 ? 0 : (double) (pointsFor - pointsAgainst) / played;
+    }
+
+    // EFFECTS: returns the most recent game with a result, or null if there is none
+    public synchronized Game getLastPlayed() {
+        if (streakStale) {
+            recomputeStreak();
+        }
+        return latest;
+    }
+
+    // EFFECTS: returns the venues at which games with a result have been played
+    public synchronized Set<String> getVenues() {
+        return Set.copyOf(venueRecords.keySet());
+    }
+
+    // EFFECTS: returns the number of games won at venue
+    public synchronized int getWinsAt(String venue) {
+        return venueRecords.getOrDefault(venue, new int[2])[WINS];
+    }
+
+    // EFFECTS: returns the number of games lost at venue
+    public synchronized int getLossesAt(String venue) {
+        return venueRecords.getOrDefault(venue, new int[2])[LOSSES];
+    }
+
+    // EFFECTS: returns the number of consecutive results equal to the most recent one, positive for wins and
+    //          negative for losses, or 0 if no game has a result yet
+    public synchronized int getCurrentStreak() {
+        if (streakStale) {
+            recomputeStreak();
+        }
+        return streak;
+    }
+
+    // EFFECTS: returns true if a game with these scores and win status has been played
+    static boolean isPlayed(int homeScore, int opponentScore, boolean isWin) {
+        return isWin || homeScore != 0 || opponentScore != 0;
+    }
+
+    // EFFECTS: returns true if version of a game has a result
+    static boolean isPlayed(Game version) {
+        return version != null && isPlayed(version.getHomeScore(), version.getOpponentScore(), version.getIsWin());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the contribution game made as version before (null if it was not counted) by the one it
+    //          makes as version after
+    synchronized void update(Game game, Game before, Game after) {
+        boolean wasPlayed = isPlayed(before);
+        boolean played = isPlayed(after);
+        if (wasPlayed) {
+            count(game.getVenue(), before.getHomeScore(), before.getOpponentScore(), before.getIsWin(), -1);
+        }
+        if (played) {
+            count(game.getVenue(), after.getHomeScore(), after.getOpponentScore(), after.getIsWin(), 1);
+        }
+        if (!wasPlayed && played) {
+            extendStreak(game, after.getIsWin());
+        } else if (wasPlayed && played && game == latest) {
+            streak = extend(priorStreak, after.getIsWin());
+        } else if (wasPlayed && (!played || before.getIsWin() != after.getIsWin())) {
+            streakStale = true;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets every counted game
+    synchronized void clear() {
+        venueRecords.clear();
+        wins = 0;
+        losses = 0;
+        pointsFor = 0;
+        pointsAgainst = 0;
+        latest = null;
+        streak = 0;
+        priorStreak = 0;
+        streakStale = false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds sign times the given game result to the totals
+    private void count(String venue, int homeScore, int opponentScore, boolean isWin, int sign) {
+        int result = isWin ? WINS : LOSSES;
+        if (isWin) {
+            wins += sign;
+        } else {
+            losses += sign;
+        }
+        pointsFor += sign * homeScore;
+        pointsAgainst += sign * opponentScore;
+        venueRecords.computeIfAbsent(venue, v -> new int[2])[result] += sign;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: extends the streak with a newly played game if it is the most recent one, otherwise marks
+    //          the streak for recomputation
+    private void extendStreak(Game game, boolean isWin) {
+        if (!streakStale && (latest == null || game.getDate().after(latest.getDate()))) {
+            priorStreak = streak;
+            streak = extend(streak, isWin);
+            latest = game;
+        } else {
+            streakStale = true;
+        }
+    }
+
+    // EFFECTS: returns the streak that follows current after one more result
+    private static int extend(int current, boolean isWin) {
+        if (isWin) {
+            return current > 0 ? current + 1 : 1;
+        }
+        return current < 0 ? current - 1 : -1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rebuilds the streak, the streak before the most recent result and the most recent played game
+    //          by walking back from the end of the schedule only as far as those two streaks reach
+    private void recomputeStreak() {
+        List<Game> games = schedule.get();
+        int newest = previousPlayed(games, games.size());
+        latest = newest < 0 ? null : games.get(newest);
+        streak = runEndingAt(games, newest);
+        priorStreak = runEndingAt(games, previousPlayed(games, newest));
+        streakStale = false;
+    }
+
+    // EFFECTS: returns the index of the last played game before index, or -1 if there is none
+    private static int previousPlayed(List<Game> games, int index) {
+        for (int i = index - 1; i >= 0; i--) {
+            if (isPlayed(games.get(i).version())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // EFFECTS: returns the signed number of consecutive equal results among the played games ending at index
+    private static int runEndingAt(List<Game> games, int index) {
+        if (index < 0) {
+            return 0;
+        }
+        boolean isWin = games.get(index).getIsWin();
+        int run = 0;
+        for (int i = index; i >= 0 && games.get(i).getIsWin() == isWin; i = previousPlayed(games, i)) {
+            run++;
+        }
+        return isWin ? run : -run;
+    }
+}
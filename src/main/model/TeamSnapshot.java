@@ -0,0 +1,175 @@
+package model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import persistence.Writable;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * TeamSnapshot is one version of a team's state: its name, age boundaries, roster, game schedule and training
+ * sessions. Team replaces its current version on every modification instead of changing it, and the collections
+ * are PersistentLists shared between versions. The lists hold the unchangeable versions of the team's players,
+ * games and sessions, and a change to one of them replaces just its entry in O(log n), so the current version
+ * is itself a snapshot: it can be handed out as it is, and saved or reported on at leisure while the team keeps
+ * changing.
+ */
+public final class TeamSnapshot implements Writable {
+    private final String name;
+    private final int lowerBoundAge;
+    private final int upperBoundAge;
+    private final PersistentList<Player> players;
+    private final PersistentList<Game> games;
+    private final PersistentList<TrainingSession> trainingSessions;
+    private final long version;
+
+    // EFFECTS: constructs the snapshot of a new, empty team
+    TeamSnapshot(String name, int lowerBoundAge, int upperBoundAge) {
+        this(name, lowerBoundAge, upperBoundAge, PersistentList.empty(), PersistentList.empty(),
+                PersistentList.empty(), 0);
+    }
+
+    private TeamSnapshot(String name, int lowerBoundAge, int upperBoundAge, PersistentList<Player> players,
+                         PersistentList<Game> games, PersistentList<TrainingSession> trainingSessions,
+                         long version) {
+        this.name = name;
+        this.lowerBoundAge = lowerBoundAge;
+        this.upperBoundAge = upperBoundAge;
+        this.players = players;
+        this.games = games;
+        this.trainingSessions = trainingSessions;
+        this.version = version;
+    }
+
+    public String getTeamName() {
+        return name;
+    }
+
+    public int getLowerBoundAge() {
+        return lowerBoundAge;
+    }
+
+    public int getUpperBoundAge() {
+        return upperBoundAge;
+    }
+
+    public PersistentList<Player> getPlayers() {
+        return players;
+    }
+
+    public PersistentList<Game> getGames() {
+        return games;
+    }
+
+    public PersistentList<TrainingSession> getTrainingSessions() {
+        return trainingSessions;
+    }
+
+    // EFFECTS: returns the number of modifications the team had gone through when this snapshot was taken
+    public long getVersion() {
+        return version;
+    }
+
+    // EFFECTS: returns the next version of this snapshot with the given roster
+    TeamSnapshot withPlayers(PersistentList<Player> players) {
+        return new TeamSnapshot(name, lowerBoundAge, upperBoundAge, players, games, trainingSessions, version + 1);
+    }
+
+    // EFFECTS: returns the next version of this snapshot with the given game schedule
+    TeamSnapshot withGames(PersistentList<Game> games) {
+        return new TeamSnapshot(name, lowerBoundAge, upperBoundAge, players, games, trainingSessions, version + 1);
+    }
+
+    // EFFECTS: returns the next version of this snapshot with the given training sessions
+    TeamSnapshot withTrainingSessions(PersistentList<TrainingSession> trainingSessions) {
+        return new TeamSnapshot(name, lowerBoundAge, upperBoundAge, players, games, trainingSessions, version + 1);
+    }
+
+    // EFFECTS: returns the next version of this snapshot, with the current versions of the given live players,
+    //          games and sessions in place of their earlier ones; entities not (yet) in this snapshot, or
+    //          whose current version it already holds, are skipped, and if all are, returns this snapshot itself
+    TeamSnapshot withCurrent(List<Player> changedPlayers, List<Game> changedGames,
+                             List<TrainingSession> changedSessions) {
+        PersistentList<Player> nextPlayers = players;
+        for (Player player : changedPlayers) {
+            nextPlayers = withCurrent(nextPlayers, player.slot(), player, Player::version);
+        }
+        PersistentList<Game> nextGames = games;
+        for (Game game : changedGames) {
+            nextGames = withCurrent(nextGames, indexOf(nextGames, game), game, Game::version);
+        }
+        PersistentList<TrainingSession> nextSessions = trainingSessions;
+        for (TrainingSession session : changedSessions) {
+            nextSessions = withCurrent(nextSessions, session.slot(), session, TrainingSession::version);
+        }
+        if (nextPlayers == players && nextGames == games && nextSessions == trainingSessions) {
+            return this;
+        }
+        return new TeamSnapshot(name, lowerBoundAge, upperBoundAge, nextPlayers, nextGames, nextSessions,
+                version + 1);
+    }
+
+    // EFFECTS: returns entities with the entry at slot replaced by the current version of handle, or entities
+    //          itself if that entry is not a version of handle or already is its current version
+    private static <E> PersistentList<E> withCurrent(PersistentList<E> entities, int slot, E handle,
+                                                     UnaryOperator<E> versionOf) {
+        if (slot < 0 || slot >= entities.size() || handleOf(entities.get(slot)) != handle) {
+            return entities;
+        }
+        E version = versionOf.apply(handle);
+        return entities.get(slot) == version ? entities : entities.replace(slot, version);
+    }
+
+    // EFFECTS: returns the live entity the given version of a player, game or training session belongs to
+    private static Object handleOf(Object version) {
+        if (version instanceof Player) {
+            return ((Player) version).handle();
+        }
+        if (version instanceof Game) {
+            return ((Game) version).handle();
+        }
+        return ((TrainingSession) version).handle();
+    }
+
+    // EFFECTS: returns the index of the version of game in games, which are in chronological order, or -1
+    private static int indexOf(List<Game> games, Game game) {
+        int low = 0;
+        int high = games.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (games.get(mid).getDate().after(game.getDate())) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        for (int i = low - 1; i >= 0 && !games.get(i).getDate().before(game.getDate()); i--) {
+            if (games.get(i).handle() == game) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public JSONObject toJson() {
+        JSONObject jsonTeam = new JSONObject();
+        jsonTeam.put("name", this.name);
+        jsonTeam.put("lowerBoundAge", this.lowerBoundAge);
+        jsonTeam.put("upperBoundAge", this.upperBoundAge);
+        jsonTeam.put("players", toJsonArray(this.players));
+        jsonTeam.put("games", toJsonArray(this.games));
+        jsonTeam.put("trainingSessions", toJsonArray(this.trainingSessions));
+        return jsonTeam;
+    }
+
+    // EFFECTS: returns the JSON of every entity in order
+    private static JSONArray toJsonArray(List<? extends Writable> entities) {
+        JSONArray array = new JSONArray();
+        for (Writable entity : entities) {
+            array.put(entity.toJson());
+        }
+        return array;
+    }
+}
@@ -0,0 +1,171 @@
+package model;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TrainingLoad tracks how many minutes of completed training each player has attended, and answers acute load
+ * (minutes over the 7 days ending on a date) and chronic load (average weekly minutes over the 28 days ending on
+ * a date). Each player's minutes are kept in one bucket per calendar day with a prefix sum over the buckets, so
+ * a load query is a difference of two prefix sums. A change only invalidates the prefix from the changed day on,
+ * and the prefix is extended lazily by the next query that reaches past it. Once a team is tracked, every session
+ * that is added, marked completed, given an attendee or otherwise modified is re-credited right away; rebuild
+ * recomputes everything from a team's sessions in time linear in the number of sessions and days.
+ */
+public class TrainingLoad implements TrainingSessionObserver {
+    public static final int ACUTE_DAYS = 7;
+    public static final int CHRONIC_DAYS = 28;
+    private final Map<String, Ledger> ledgers = new HashMap<>();
+    private final Map<TrainingSession, Credit> credits = new IdentityHashMap<>();
+
+    // EFFECTS: returns the minutes of completed training player attended in the days days ending on date
+    public synchronized long getLoad(String player, Date date, int days) {
+        Ledger ledger = ledgers.get(player);
+        if (ledger == null) {
+            return 0;
+        }
+        int last = dayOf(date);
+        return ledger.sum(last - days + 1, last);
+    }
+
+    // EFFECTS: returns the minutes player attended in the 7 days ending on date
+    public long getAcuteLoad(String player, Date date) {
+        return getLoad(player, date, ACUTE_DAYS);
+    }
+
+    // EFFECTS: returns the average weekly minutes player attended over the 28 days ending on date
+    public double getChronicLoad(String player, Date date) {
+        return getLoad(player, date, CHRONIC_DAYS) * (double) ACUTE_DAYS / CHRONIC_DAYS;
+    }
+
+    // EFFECTS: returns acute load divided by chronic load on date, or 0 if player has no chronic load
+    public synchronized double getAcuteChronicRatio(String player, Date date) {
+        double chronic = getChronicLoad(player, date);
+        return chronic == 0 ? 0 : getAcuteLoad(player, date) / chronic;
+    }
+
+    // MODIFIES: this, team
+    // EFFECTS: starts crediting sessions of team as they are added or modified; sessions team already has are
+    //          only credited by rebuild
+    public void track(Team team) {
+        team.addTrainingSessionObserver(this);
+    }
+
+    // MODIFIES: this, team
+    // EFFECTS: tracks team, forgets all load and credits every completed session of team
+    public synchronized void rebuild(Team team) {
+        track(team);
+        ledgers.clear();
+        credits.clear();
+        for (TrainingSession session : team.getTrainingSessions()) {
+            credit(session);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: takes back the minutes session credited before, if any, and credits its current attendance
+    @Override
+    public synchronized void trainingSessionChanged(Team team, TrainingSession session) {
+        Credit previous = credits.remove(session);
+        if (previous != null) {
+            for (String player : previous.players) {
+                ledgers.get(player).add(previous.day, -previous.minutes);
+            }
+        }
+        credit(session);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if session is completed, adds its duration to every attendee's bucket for its day
+    private void credit(TrainingSession session) {
+        if (!session.isCompleted() || session.getDate() == null) {
+            return;
+        }
+        Credit credit = new Credit(dayOf(session.getDate()), session.getDurationInMinutes(),
+                new LinkedHashSet<>(session.getAttendees()));
+        for (String player : credit.players) {
+            ledgers.computeIfAbsent(player, name -> new Ledger()).add(credit.day, credit.minutes);
+        }
+        credits.put(session, credit);
+    }
+
+    // EFFECTS: returns the calendar day of date, in the default time zone, as a count of days since 1970-01-01
+    private static int dayOf(Date date) {
+        return (int) date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * The minutes one completed session credited, kept so that a later modification can take them back.
+     */
+    private static final class Credit {
+        private final int day;
+        private final int minutes;
+        private final Set<String> players;
+
+        private Credit(int day, int minutes, Set<String> players) {
+            this.day = day;
+            this.minutes = minutes;
+            this.players = players;
+        }
+    }
+
+    /**
+     * One player's minutes per day from origin on, with prefix[i] holding the minutes of the first i days.
+     * prefix is correct up to index valid and is extended on demand.
+     */
+    private static final class Ledger {
+        private int origin;
+        private int[] minutes = new int[0];
+        private long[] prefix = new long[1];
+        private int valid;
+
+        // MODIFIES: this
+        // EFFECTS: adds amount minutes to day's bucket
+        private void add(int day, int amount) {
+            cover(day);
+            minutes[day - origin] += amount;
+            valid = Math.min(valid, day - origin);
+        }
+
+        // EFFECTS: returns the minutes from day first to day last inclusive
+        private long sum(int first, int last) {
+            int from = Math.max(0, Math.min(minutes.length, first - origin));
+            int to = Math.max(0, Math.min(minutes.length, last - origin + 1));
+            if (from >= to) {
+                return 0;
+            }
+            while (valid < to) {
+                prefix[valid + 1] = prefix[valid] + minutes[valid];
+                valid++;
+            }
+            return prefix[to] - prefix[from];
+        }
+
+        // MODIFIES: this
+        // EFFECTS: grows the buckets, at least doubling them, until they include day
+        private void cover(int day) {
+            if (minutes.length == 0) {
+                origin = day;
+            }
+            if (day < origin) {
+                int shift = Math.max(origin - day, minutes.length);
+                int[] grown = new int[minutes.length + shift];
+                System.arraycopy(minutes, 0, grown, shift, minutes.length);
+                minutes = grown;
+                origin -= shift;
+                valid = 0;
+            } else if (day - origin >= minutes.length) {
+                minutes = Arrays.copyOf(minutes, Math.max(day - origin + 1, minutes.length * 2));
+            }
+            if (prefix.length != minutes.length + 1) {
+                prefix = Arrays.copyOf(prefix, minutes.length + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * TrainingScheduler proposes training sessions for a team over a range of days. It never schedules a session on
+ * a game day or on the rest days after a game, keeps sessions a minimum number of days apart (existing sessions
+ * included), and respects weekly caps on sessions and minutes, with weeks running Monday to Sunday. Every day the
+ * games and existing sessions rule out is marked in a bit set up front, found through a binary search of the
+ * date-ordered schedule, so planning jumps straight from one open day to the next and skips the rest of a week
+ * as soon as its caps are reached.
+ */
+public class TrainingScheduler {
+    private final int restDaysAfterGame;
+    private final int minDaysBetweenSessions;
+    private final int maxSessionsPerWeek;
+    private final int maxMinutesPerWeek;
+
+    // EFFECTS: constructs a scheduler with the given constraints; throws IllegalArgumentException unless
+    //          restDaysAfterGame >= 0, minDaysBetweenSessions >= 1, maxSessionsPerWeek >= 0 and
+    //          maxMinutesPerWeek >= 0
+    public TrainingScheduler(int restDaysAfterGame, int minDaysBetweenSessions, int maxSessionsPerWeek,
+                             int maxMinutesPerWeek) {
+        if (restDaysAfterGame < 0 || minDaysBetweenSessions < 1 || maxSessionsPerWeek < 0 || maxMinutesPerWeek < 0) {
+            throw new IllegalArgumentException("Invalid training constraints: " + restDaysAfterGame + " rest days, "
+                    + minDaysBetweenSessions + " days apart, " + maxSessionsPerWeek + " sessions and "
+                    + maxMinutesPerWeek + " minutes per week");
+        }
+        this.restDaysAfterGame = restDaysAfterGame;
+        this.minDaysBetweenSessions = minDaysBetweenSessions;
+        this.maxSessionsPerWeek = maxSessionsPerWeek;
+        this.maxMinutesPerWeek = maxMinutesPerWeek;
+    }
+
+    // EFFECTS: returns sessions for team from day from to day to inclusive, in date order and without adding
+    //          them to team; venues and durations are used in turn, one of each per session; throws
+    //          IllegalArgumentException if venues or durations is empty or a duration is not positive
+    public List<TrainingSession> propose(Team team, Date from, Date to, List<String> venues, List<Integer> durations) {
+        checkPlanInputs(venues, durations);
+        int first = dayOf(from);
+        int days = dayOf(to) - first + 1;
+        List<TrainingSession> plan = new ArrayList<>();
+        if (days <= 0) {
+            return plan;
+        }
+        BitSet blocked = blockedDays(team, first, days);
+        int[][] weekTotals = weekTotals(team, first, days);
+        for (int day = blocked.nextClearBit(0); day < days; ) {
+            int week = weekOf(first + day) - weekOf(first);
+            int duration = durations.get(plan.size() % durations.size());
+            if (weekTotals[week][0] >= maxSessionsPerWeek || weekTotals[week][1] + duration > maxMinutesPerWeek) {
+                day = blocked.nextClearBit(day + 7 - Math.floorMod(first + day + 3, 7));
+                continue;
+            }
+            String venue = venues.get(plan.size() % venues.size());
+            plan.add(TrainingSession.proposal(dateOf(first + day), venue, duration));
+            weekTotals[week][0]++;
+            weekTotals[week][1] += duration;
+            day = blocked.nextClearBit(day + minDaysBetweenSessions);
+        }
+        return plan;
+    }
+
+    // MODIFIES: team
+    // EFFECTS: adds the sessions propose returns to team and returns them; throws IllegalArgumentException, adding
+    //          nothing, if propose does
+    public List<TrainingSession> schedule(Team team, Date from, Date to, List<String> venues,
+                                          List<Integer> durations) {
+        List<TrainingSession> plan = propose(team, from, to, venues, durations);
+        for (TrainingSession session : plan) {
+            team.addTrainingSession(session);
+        }
+        return plan;
+    }
+
+    // EFFECTS: throws IllegalArgumentException if venues or durations is empty or a duration is not positive
+    private static void checkPlanInputs(List<String> venues, List<Integer> durations) {
+        if (venues.isEmpty() || durations.isEmpty()) {
+            throw new IllegalArgumentException("At least one venue and one duration are needed");
+        }
+        for (int duration : durations) {
+            if (duration <= 0) {
+                throw new IllegalArgumentException("Session duration must be positive: " + duration);
+            }
+        }
+    }
+
+    // EFFECTS: returns the days, counted from first, on which a session may not be scheduled because of a game,
+    //          the rest after a game or an existing session nearby
+    private BitSet blockedDays(Team team, int first, int days) {
+        BitSet blocked = new BitSet(days);
+        List<Game> games = team.getGames();
+        for (int i = firstGameFrom(games, first - restDaysAfterGame); i < games.size(); i++) {
+            int day = dayOf(games.get(i).getDate()) - first;
+            if (day >= days) {
+                break;
+            }
+            blocked.set(Math.max(0, day), Math.max(0, Math.min(days, day + restDaysAfterGame + 1)));
+        }
+        for (TrainingSession session : team.getTrainingSessions()) {
+            int day = dayOf(session.getDate()) - first;
+            int from = Math.max(0, day - minDaysBetweenSessions + 1);
+            int to = Math.min(days, day + minDaysBetweenSessions);
+            if (from < to) {
+                blocked.set(from, to);
+            }
+        }
+        return blocked;
+    }
+
+    // EFFECTS: returns the number of sessions and minutes team already has in each week the range touches
+    private int[][] weekTotals(Team team, int first, int days) {
+        int firstWeek = weekOf(first);
+        int[][] totals = new int[weekOf(first + days - 1) - firstWeek + 1][2];
+        for (TrainingSession session : team.getTrainingSessions()) {
+            int week = weekOf(dayOf(session.getDate())) - firstWeek;
+            if (week >= 0 && week < totals.length) {
+                totals[week][0]++;
+                totals[week][1] += session.getDurationInMinutes();
+            }
+        }
+        return totals;
+    }
+
+    // REQUIRES: games is in chronological order
+    // EFFECTS: returns the index of the first game on or after day
+    private static int firstGameFrom(List<Game> games, int day) {
+        int low = 0;
+        int high = games.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dayOf(games.get(mid).getDate()) < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // EFFECTS: returns the Monday-to-Sunday week day falls in, counted from the week of 1970-01-01
+    private static int weekOf(int day) {
+        return Math.floorDiv(day + 3, 7);
+    }
+
+    // EFFECTS: returns the calendar day of date, in the default time zone, as a count of days since 1970-01-01
+    private static int dayOf(Date date) {
+        return (int) date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    // EFFECTS: returns the start of day, in the default time zone
+    private static Date dateOf(int day) {
+        return Date.from(LocalDate.ofEpochDay(day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -5,93 +5,195 @@ import persistence.Writable;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * The TrainingSession class represents a training session for a basketball team.
  * It encapsulates details such as the date, venue, duration, and attendees of the
  * session. The class provides methods to manage these attributes, including adding
  * and removing attendees, marking the session as completed, and modifying the date,
- * venue, and duration.
+ * venue, and duration. A session may be read and changed from several threads without locking: it keeps its
+ * current state as an immutable version, which every change replaces with compare-and-set and then publishes to
+ * the session's team, and getAttendees returns a copy. Versions are TrainingSessions themselves, as found in
+ * team snapshots; they cannot be changed.
  */
 public class TrainingSession implements Writable {
-    private Date date;
-    private String venue;
-    private ArrayList<String> attendees;
-    private boolean completed;
-    private int durationInMinutes;
+    private final Date date;
+    private final String venue;
+    private final List<String> attendees;
+    private final boolean completed;
+    private final int durationInMinutes;
+    private final TrainingSession handle;
+    private final AtomicReference<TrainingSession> current;
+    private volatile Team team;
+    private volatile int slot;
 
     // REQUIRES: no game to be on given date
     public TrainingSession(Date date, String venue, int durationInMinutes) {
+        this(date, venue, durationInMinutes, true);
+    }
+
+    // EFFECTS: constructs a session with the given date, venue and duration, logging its creation if logged
+    private TrainingSession(Date date, String venue, int durationInMinutes, boolean logged) {
         this.date = date;
         this.venue = venue;
-        this.attendees = new ArrayList<>();
+        this.attendees = List.of();
         this.completed = false;
         this.durationInMinutes = durationInMinutes;
-        EventLog.getInstance().logEvent(new Event("New training session created on " + getFormattedDate()));
+        this.handle = this;
+        this.current = new AtomicReference<>(new TrainingSession(this, date, venue, List.of(), false,
+                durationInMinutes));
+        if (logged) {
+            EventLog.getInstance().logEvent(new Event("New training session created on " + getFormattedDate()));
+        }
+    }
+
+    // EFFECTS: returns a new session with the given date, venue and duration without logging an event; used for
+    //          sessions that are only proposed, which are logged once they are added to a team
+    static TrainingSession proposal(Date date, String venue, int durationInMinutes) {
+        return new TrainingSession(date, venue, durationInMinutes, false);
+    }
+
+    // EFFECTS: constructs an unchangeable version of the session handle with the given state without logging an
+    //          event
+    private TrainingSession(TrainingSession handle, Date date, String venue, List<String> attendees,
+                            boolean completed, int durationInMinutes) {
+        this.handle = handle;
+        this.date = date;
+        this.venue = venue;
+        this.attendees = attendees;
+        this.completed = completed;
+        this.durationInMinutes = durationInMinutes;
+        this.current = null;
     }
 
     public Date getDate() {
-        return date;
+        return version().date;
     }
 
     // EFFECTS: Returns the formatted date string in "yyyy-MM-dd" format.
     public String getFormattedDate() {
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        return dateFormat.format(this.date);
+        return dateFormat.format(getDate());
     }
 
     public void setDate(Date date) {
-        this.date = date;
+        change(v -> v.with(date, v.venue, v.attendees, v.completed, v.durationInMinutes));
         EventLog.getInstance().logEvent(new Event("Training session date updated to " + getFormattedDate()));
+        notifyTeam();
     }
 
     public String getVenue() {
-        return venue;
+        return version().venue;
     }
 
     public void setVenue(String venue) {
-        this.venue = venue;
+        change(v -> v.with(v.date, venue, v.attendees, v.completed, v.durationInMinutes));
         EventLog.getInstance().logEvent(new Event("Training session venue updated to " + venue));
+        notifyTeam();
     }
 
     public boolean isCompleted() {
-        return completed;
+        return version().completed;
     }
 
     public void markCompleted() {
-        this.completed = true;
+        change(v -> v.with(v.date, v.venue, v.attendees, true, v.durationInMinutes));
         EventLog.getInstance().logEvent(new Event("Training session marked as completed."));
+        notifyTeam();
     }
 
     public void addAttendee(String player) {
-        attendees.add(player);
+        change(v -> {
+            List<String> attendees = new ArrayList<>(v.attendees);
+            attendees.add(player);
+            return v.with(v.date, v.venue, Collections.unmodifiableList(attendees), v.completed,
+                    v.durationInMinutes);
+        });
         EventLog.getInstance().logEvent(new Event("Player " + player + " added to training session."));
+        notifyTeam();
     }
 
+    // EFFECTS: returns a copy of the names of the players attending the session
     public ArrayList<String> getAttendees() {
-        return attendees;
+        return new ArrayList<>(version().attendees);
     }
 
     public int getDurationInMinutes() {
-        return durationInMinutes;
+        return version().durationInMinutes;
     }
 
     public void setDurationInMinutes(int durationInMinutes) {
-        this.durationInMinutes = durationInMinutes;
+        change(v -> v.with(v.date, v.venue, v.attendees, v.completed, durationInMinutes));
         EventLog.getInstance().logEvent(new Event("Duration of training session is " + durationInMinutes + " minutes"));
+        notifyTeam();
+    }
+
+    // EFFECTS: returns the current state of this session as an unchangeable version; a version is its own version
+    TrainingSession version() {
+        return this.current == null ? this : this.current.get();
+    }
+
+    // EFFECTS: returns the live session this is a version of; a live session is its own handle
+    TrainingSession handle() {
+        return this.handle;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the team this session belongs to and the session's position in its list of sessions
+    void setTeam(Team team, int slot) {
+        this.slot = slot;
+        this.team = team;
+    }
+
+    // EFFECTS: returns the session's position in the list of sessions of its team
+    int slot() {
+        return this.slot;
+    }
+
+    // EFFECTS: returns a version of this session with the given state
+    private TrainingSession with(Date date, String venue, List<String> attendees, boolean completed,
+                                 int durationInMinutes) {
+        return new TrainingSession(this.handle, date, venue, attendees, completed, durationInMinutes);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the current version by change applied to it and publishes it to the session's team, if
+    //          any; throws UnsupportedOperationException if this is a version, which cannot be changed
+    private void change(UnaryOperator<TrainingSession> change) {
+        if (this.current == null) {
+            throw new UnsupportedOperationException("A snapshot of a training session cannot be changed");
+        }
+        this.current.updateAndGet(change);
+        Team owner = this.team;
+        if (owner != null) {
+            owner.publish(this);
+        }
+    }
+
+    // EFFECTS: tells the team this session belongs to, if any, that the session has been modified
+    private void notifyTeam() {
+        Team owner = this.team;
+        if (owner != null) {
+            owner.trainingSessionChanged(this);
+        }
     }
 
     @Override
     public JSONObject toJson() {
+        TrainingSession state = version();
         JSONObject jsonSession = new JSONObject();
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");  // Adjust format if needed
-        String formattedDate = dateFormat.format(this.date);
+        String formattedDate = dateFormat.format(state.date);
         jsonSession.put("date", formattedDate);
-        jsonSession.put("duration", this.durationInMinutes);
-        jsonSession.put("venue", this.venue);
-        jsonSession.put("attendees", this.attendees);
-        jsonSession.put("completed", this.completed);
+        jsonSession.put("duration", state.durationInMinutes);
+        jsonSession.put("venue", state.venue);
+        jsonSession.put("attendees", state.attendees);
+        jsonSession.put("completed", state.completed);
         return jsonSession;
     }
 }
@@ -0,0 +1,10 @@
+package model;
+
+/**
+ * TrainingSessionObserver represents an object that wants to be told whenever a training session belonging to a
+ * team is added or modified (Observer Design Pattern).
+ */
+public interface TrainingSessionObserver {
+    // EFFECTS: reacts to session, which belongs to team, being added or modified
+    void trainingSessionChanged(Team team, TrainingSession session);
+}
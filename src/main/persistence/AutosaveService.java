@@ -0,0 +1,154 @@
+package persistence;
+
+import model.Team;
+import model.TeamObserver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AutosaveService saves a team in the background after it has been modified. Bursts of modifications are
+ * merged into one save that runs once the team has been quiet for a short period (or, under constant
+ * modification, once the oldest unsaved change reaches a maximum age). Each save is written to a temporary
+ * file that is then renamed over the destination, so the destination always holds a complete team.
+ */
+public class AutosaveService implements TeamObserver {
+    public static final long DEFAULT_QUIET_MILLIS = 2000;
+    private static final int MAX_DELAY_FACTOR = 10;
+    private final Team team;
+    private final Path destination;
+    private final long quietMillis;
+    private final ScheduledExecutorService executor;
+    private ScheduledFuture<?> pending;
+    private long dirtySince;
+    private boolean dirty;
+    private int saveCount;
+
+    // EFFECTS: constructs a service that saves team to destination after quietMillis without modifications
+    public AutosaveService(Team team, String destination, long quietMillis) {
+        this.team = team;
+        this.destination = Paths.get(destination);
+        this.quietMillis = quietMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    // EFFECTS: returns the number of saves written so far
+    public synchronized int getSaveCount() {
+        return saveCount;
+    }
+
+    // EFFECTS: returns true if the team has modifications that have not been saved yet
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    // MODIFIES: this, team
+    // EFFECTS: starts watching the team for modifications
+    public void start() {
+        team.addObserver(this);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the team dirty and (re)schedules a save for when it has been quiet long enough
+    @Override
+    public synchronized void teamChanged(Team team) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (!dirty) {
+            dirty = true;
+            dirtySince = now;
+        }
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        long maxDelay = quietMillis * MAX_DELAY_FACTOR - (now - dirtySince);
+        long delay = Math.max(0, Math.min(quietMillis, maxDelay));
+        pending = executor.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves the team now if it has unsaved modifications; if the save fails the team stays dirty
+    public void flush() {
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+        }
+        try {
+            new JsonWriter(destination.toString()).writeAtomically(team.snapshot(), ProgressListener.NONE);
+            synchronized (this) {
+                saveCount++;
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                dirty = true;
+            }
+            System.out.println("Autosave failed: " + e.getMessage());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets unsaved modifications and cancels any scheduled save
+    public synchronized void discard() {
+        dirty = false;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+    }
+
+    // MODIFIES: this, team
+    // EFFECTS: stops watching the team and shuts the background thread down after it writes any
+    //          unsaved modifications
+    public synchronized void stop() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        team.removeObserver(this);
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        executor.execute(this::flush);
+        executor.shutdown();
+    }
+
+    // MODIFIES: this, team
+    // EFFECTS: forgets unsaved modifications, stops watching the team and, once any save already under way has
+    //          finished, deletes the destination file; returns true if the file no longer exists
+    public boolean abandon(long timeoutMillis) throws InterruptedException {
+        discard();
+        stop();
+        if (!awaitStopped(timeoutMillis)) {
+            return false;
+        }
+        try {
+            Files.deleteIfExists(destination);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Could not delete " + destination + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    // EFFECTS: waits up to timeoutMillis for the background thread to finish after stop;
+    // returns true if it finished
+    public boolean awaitStopped(long timeoutMillis) throws InterruptedException {
+        return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -5,23 +5,38 @@ import model.Player;
 import model.Team;
 import model.TrainingSession;
 import model.PerformanceStats;
+import model.Position;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.PersistenceEvent;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.stream.Stream;
 
 import org.json.*;
 
 /**
  * JsonReader reads team data from a JSON file and constructs corresponding Team, Player, Game, and TrainingSession
- * objects. It provides methods to parse JSON objects into these objects.
+ * objects. It provides methods to parse JSON objects into these objects. Only the roster is built eagerly: the
+ * character offsets of the games and trainingSessions sections are recorded and those lists are built the first
+ * time the team's games or training sessions are accessed. A read that reports to a listener is meant to run off
+ * the event thread, so it builds those lists before returning instead, and the first access to them on the event
+ * thread costs nothing. The file is read in chunks, so a listener can follow the read and cancel it before the
+ * whole file is in memory, and then follow the games and training sessions being built one at a time.
  */
 public class JsonReader {
+    private static final String GAMES_KEY = "games";
+    private static final String SESSIONS_KEY = "trainingSessions";
+    private static final int CHUNK_BYTES = 64 * 1024;
+    private static final LatencyHistogram READ_LATENCY = MetricsRegistry.getInstance().histogram("JsonReader.readTeam");
     private final String source;
 
     // EFFECTS: constructs reader to read from source file
@@ -32,40 +47,198 @@ public class JsonReader {
     // EFFECTS: reads team data from file and returns it;
     // throws IOException if an error occurs reading data from file
     public Team readTeam() throws IOException {
-        String jsonData = readFile(source);
-        JSONObject jsonObject = new JSONObject(jsonData);
-        return parseTeam(jsonObject);
+        return read(ProgressListener.NONE, false);
     }
 
-    // EFFECTS: reads source file as string and returns it
-    private String readFile(String source) throws IOException {
-        StringBuilder contentBuilder = new StringBuilder();
+    // EFFECTS: reads team data from file and returns it with its games and training sessions already built,
+    //          reporting to listener the bytes of the file read so far after every chunk, then the games and
+    //          training sessions built so far after every one of them; throws IOException if an error occurs
+    //          reading data from file, and CancellationException if listener asks for cancellation
+    public Team readTeam(ProgressListener listener) throws IOException {
+        return read(listener, true);
+    }
+
+    // EFFECTS: reads team data from file and returns it, building its games and training sessions now if
+    //          complete and deferring them otherwise, and reporting progress to listener
+    private Team read(ProgressListener listener, boolean complete) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return parseTeam(readFile(source, listener), complete ? listener : null);
+        } finally {
+            READ_LATENCY.recordSince(start);
+        }
+    }
+
+    // EFFECTS: builds the team held in jsonData; builds its games and training sessions now, reporting each one
+    //          to listener, or defers them if listener is null
+    private Team parseTeam(String jsonData, ProgressListener listener) {
+        PersistenceEvent event = PersistenceEvent.start("JsonReader.parseTeam", source);
+        int[] gamesSection = locateSection(jsonData, GAMES_KEY);
+        int[] sessionsSection = locateSection(jsonData, SESSIONS_KEY);
+        JSONObject jsonObject = new JSONObject(withoutSections(jsonData, gamesSection, sessionsSection));
+        Team team = parseHeader(jsonObject);
+        parsePlayers(team, jsonObject.getJSONArray("players"));
+        if (listener != null) {
+            JSONArray games = sectionArray(jsonData, gamesSection, jsonObject, GAMES_KEY);
+            JSONArray sessions = sectionArray(jsonData, sessionsSection, jsonObject, SESSIONS_KEY);
+            Progress progress = new Progress(listener, games.length() + sessions.length());
+            parseGames(team, games, progress);
+            parseTrainingSessions(team, sessions, progress);
+        } else {
+            deferSections(team, jsonData, jsonObject, gamesSection, sessionsSection);
+        }
+        event.finish(team.getPlayers().size(), team.isGamesLoaded() ? team.getGames().size() : -1,
+                team.isTrainingSessionsLoaded() ? team.getTrainingSessions().size() : -1, jsonData);
+        return team;
+    }
+
+    // MODIFIES: team
+    // EFFECTS: defers building the games and training sessions of team held at the given sections of jsonData;
+    //          a list whose section was not located is built from jsonObject now
+    private void deferSections(Team team, String jsonData, JSONObject jsonObject, int[] gamesSection,
+                               int[] sessionsSection) {
+        if (gamesSection == null) {
+            parseGames(team, jsonObject);
+        } else {
+            team.deferGames(() -> parseGames(team, sectionArray(jsonData, gamesSection)));
+        }
+        if (sessionsSection == null) {
+            parseTrainingSessions(team, jsonObject);
+        } else {
+            team.deferTrainingSessions(() -> parseTrainingSessions(team, sectionArray(jsonData, sessionsSection)));
+        }
+    }
+
+    // EFFECTS: reads source file as string in chunks and returns it, reporting the bytes read so far to listener;
+    //          throws IOException if the file cannot be read or is too large to hold as a string, and
+    //          CancellationException if listener asks for cancellation
+    private String readFile(String source, ProgressListener listener) throws IOException {
+        PersistenceEvent event = PersistenceEvent.start("JsonReader.readFile", source);
+        Path path = Paths.get(source);
+        try (InputStream in = Files.newInputStream(path)) {
+            long size = Files.size(path);
+            if (size > Integer.MAX_VALUE - CHUNK_BYTES) {
+                throw new IOException(source + " is too large to read (" + size + " bytes)");
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream((int) size);
+            Progress progress = new Progress(listener, (int) size);
+            progress.checkCancelled();
+            byte[] chunk = new byte[CHUNK_BYTES];
+            for (int read = in.read(chunk); read >= 0; read = in.read(chunk)) {
+                content.write(chunk, 0, read);
+                progress.advance(read);
+            }
+            event.finish(-1, -1, -1, content.size());
+            return new String(content.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // EFFECTS: returns the [start, end) character offsets of the array stored under the given top-level key,
+    //          or null if the key is not present
+    private static int[] locateSection(String json, String key) {
+        String quotedKey = JSONObject.quote(key);
+        int depth = 0;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                int end = skipString(json, i);
+                int next = skipWhitespace(json, end);
+                if (depth == 1 && end - i == quotedKey.length() && json.startsWith(quotedKey, i)
+                        && next < json.length() && json.charAt(next) == ':') {
+                    int start = skipWhitespace(json, next + 1);
+                    return start < json.length() && json.charAt(start) == '['
+                            ? new int[]{start, skipArray(json, start)} : null;
+                }
+                i = end - 1;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        }
+        return null;
+    }
+
+    // REQUIRES: json.charAt(start) == '"'
+    // EFFECTS: returns the offset just past the string literal starting at start
+    private static int skipString(String json, int start) {
+        int i = start + 1;
+        while (i < json.length() && json.charAt(i) != '"') {
+            i += json.charAt(i) == '\\' ? 2 : 1;
+        }
+        return i + 1;
+    }
 
-        try (Stream<String> stream = Files.lines(Paths.get(source), StandardCharsets.UTF_8)) {
-            stream.forEach(s -> contentBuilder.append(s));
+    // REQUIRES: json.charAt(start) == '['
+    // EFFECTS: returns the offset just past the array starting at start
+    private static int skipArray(String json, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < json.length()) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                i = skipString(json, i);
+                continue;
+            }
+            if (c == '[' || c == '{') {
+                depth++;
+            } else if ((c == ']' || c == '}') && --depth == 0) {
+                return i + 1;
+            }
+            i++;
         }
+        return i;
+    }
+
+    // EFFECTS: returns the offset of the first non-whitespace character at or after start
+    private static int skipWhitespace(String json, int start) {
+        int i = start;
+        while (i < json.length() && Character.isWhitespace(json.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    // EFFECTS: returns json with the given sections (which may be null) replaced by empty arrays
+    private static String withoutSections(String json, int[] first, int[] second) {
+        if (first == null || (second != null && second[0] < first[0])) {
+            int[] swap = first;
+            first = second;
+            second = swap;
+        }
+        StringBuilder header = new StringBuilder();
+        int copied = 0;
+        for (int[] section : new int[][]{first, second}) {
+            if (section != null) {
+                header.append(json, copied, section[0]).append("[]");
+                copied = section[1];
+            }
+        }
+        return header.append(json, copied, json.length()).toString();
+    }
+
+    // EFFECTS: parses the array found at the given section of json
+    private static JSONArray sectionArray(String json, int[] section) {
+        return new JSONArray(json.substring(section[0], section[1]));
+    }
 
-        return contentBuilder.toString();
+    // EFFECTS: parses the array found at the given section of json, or the one stored under key in jsonObject if
+    //          the section was not located
+    private static JSONArray sectionArray(String json, int[] section, JSONObject jsonObject, String key) {
+        return section == null ? jsonObject.getJSONArray(key) : sectionArray(json, section);
     }
 
-    // EFFECTS: parses team data from JSON object and returns it
-    private Team parseTeam(JSONObject jsonObject) {
+    // EFFECTS: parses team name and age boundaries from JSON object and returns the new team
+    private Team parseHeader(JSONObject jsonObject) {
         String name = jsonObject.getString("name");
         int lowerBoundAge = jsonObject.getInt("lowerBoundAge");
         int upperBoundAge = jsonObject.getInt("upperBoundAge");
-        Team team = new Team(name, lowerBoundAge, upperBoundAge);
-
-        parsePlayers(team, jsonObject);
-        parseGames(team, jsonObject);
-        parseTrainingSessions(team, jsonObject);
-
-        return team;
+        return new Team(name, lowerBoundAge, upperBoundAge);
     }
 
     // MODIFIES: team
-    // EFFECTS: parses players from JSON object and adds them to team
-    private void parsePlayers(Team team, JSONObject jsonObject) {
-        JSONArray playersArray = jsonObject.getJSONArray("players");
+    // EFFECTS: parses players from JSON array and adds them to team
+    private void parsePlayers(Team team, JSONArray playersArray) {
         for (int i = 0; i < playersArray.length(); i++) {
             JSONObject playerObject = playersArray.getJSONObject(i);
             Player player = parsePlayer(playerObject);
@@ -74,10 +247,10 @@ public class JsonReader {
     }
 
     // EFFECTS: parses player from JSON object
-    private Player parsePlayer(JSONObject playerObject) {
+    public Player parsePlayer(JSONObject playerObject) {
         String name = playerObject.getString("name");
         int age = playerObject.getInt("age");
-        String position = playerObject.getString("position");
+        Position position = Position.parse(playerObject.getString("position"));
         int jerseyNumber = playerObject.getInt("jerseyNumber");
         JSONObject statsObject = playerObject.getJSONObject("stats");
 
@@ -99,12 +272,23 @@ public class JsonReader {
     // MODIFIES: team
     // EFFECTS: parses games from JSON object and adds them to team
     private void parseGames(Team team, JSONObject jsonObject) {
-        JSONArray gamesArray = jsonObject.getJSONArray("games");
+        parseGames(team, jsonObject.getJSONArray(GAMES_KEY));
+    }
+
+    // MODIFIES: team
+    // EFFECTS: parses games from JSON array and adds them to team
+    private void parseGames(Team team, JSONArray gamesArray) {
+        parseGames(team, gamesArray, new Progress(ProgressListener.NONE, gamesArray.length()));
+    }
 
+    // MODIFIES: team, progress
+    // EFFECTS: parses games from JSON array and adds them to team, counting each one in progress
+    private void parseGames(Team team, JSONArray gamesArray, Progress progress) {
         for (int i = 0; i < gamesArray.length(); i++) {
             JSONObject gameObject = gamesArray.getJSONObject(i);
             Game game = parseGame(gameObject);
             team.addGame(game);
+            progress.step();
         }
     }
 
@@ -134,11 +318,23 @@ public class JsonReader {
     // MODIFIES: team
     // EFFECTS: parses training sessions from JSON object and adds them to team
     public void parseTrainingSessions(Team team, JSONObject jsonObject) {
-        JSONArray sessionsArray = jsonObject.getJSONArray("trainingSessions");
+        parseTrainingSessions(team, jsonObject.getJSONArray(SESSIONS_KEY));
+    }
+
+    // MODIFIES: team
+    // EFFECTS: parses training sessions from JSON array and adds them to team
+    private void parseTrainingSessions(Team team, JSONArray sessionsArray) {
+        parseTrainingSessions(team, sessionsArray, new Progress(ProgressListener.NONE, sessionsArray.length()));
+    }
+
+    // MODIFIES: team, progress
+    // EFFECTS: parses training sessions from JSON array and adds them to team, counting each one in progress
+    private void parseTrainingSessions(Team team, JSONArray sessionsArray, Progress progress) {
         for (int i = 0; i < sessionsArray.length(); i++) {
             JSONObject sessionObject = sessionsArray.getJSONObject(i);
             TrainingSession session = parseTrainingSession(sessionObject);
             team.addTrainingSession(session);
+            progress.step();
         }
     }
 
@@ -164,6 +360,9 @@ public class JsonReader {
             String attendeeName = attendeesArray.getString(i);
             session.addAttendee(attendeeName);
         }
+        if (sessionObject.optBoolean("completed", false)) {
+            session.markCompleted();
+        }
         return session;
     }
 }
@@ -0,0 +1,52 @@
+package persistence;
+
+import model.Game;
+import model.Team;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JsonTeamRepository is a TeamRepository backed by a single JSON file holding one team. Every save, including
+ * saving a single game, rewrites the whole file atomically through JsonWriter, so a failed save leaves the
+ * previous team in place.
+ */
+public class JsonTeamRepository implements TeamRepository {
+    private final String source;
+
+    // EFFECTS: constructs a repository stored in the given JSON file
+    public JsonTeamRepository(String source) {
+        this.source = source;
+    }
+
+    @Override
+    public List<String> teamNames() throws IOException {
+        List<String> names = new ArrayList<>();
+        if (Files.exists(Paths.get(source))) {
+            names.add(new JsonReader(source).readTeam().getTeamName());
+        }
+        return names;
+    }
+
+    @Override
+    public Team load(String teamName) throws IOException {
+        Team team = new JsonReader(source).readTeam();
+        if (!team.getTeamName().equals(teamName)) {
+            throw new IOException("No team named " + teamName + " in " + source);
+        }
+        return team;
+    }
+
+    @Override
+    public void save(Team team) throws IOException {
+        new JsonWriter(source).writeAtomically(team.snapshot(), ProgressListener.NONE);
+    }
+
+    @Override
+    public void saveGame(Team team, Game game) throws IOException {
+        save(team);
+    }
+}
@@ -1,10 +1,21 @@
 package persistence;
 
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+import metrics.PersistenceEvent;
 import model.Team;
+import model.TeamSnapshot;
 import org.json.JSONObject;
 
-
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * JsonWriter writes the JSON representation of a Team object to a destination file.
@@ -12,6 +23,8 @@ import java.io.*;
  */
 public class JsonWriter {
     private static final int TAB = 4;
+    private static final LatencyHistogram WRITE_LATENCY = MetricsRegistry.getInstance().histogram("JsonWriter.write");
+    private static final boolean DIRECTORIES_SYNCABLE = !System.getProperty("os.name").startsWith("Windows");
     private String destination;
     private PrintWriter writer;
 
@@ -21,23 +34,121 @@ public class JsonWriter {
     }
 
     // MODIFIES: this
-    // EFFECTS: opens writer; throws FileNotFoundException if destination file cannot
-    // be opened for writing
+    // EFFECTS: opens writer, which encodes text as UTF-8 like JsonReader and TeamStreamWriter;
+    // throws FileNotFoundException if destination file cannot be opened for writing
     public void open() throws FileNotFoundException {
-        writer = new PrintWriter(new File(destination));
+        PersistenceEvent event = PersistenceEvent.start("JsonWriter.open", destination);
+        writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(destination), StandardCharsets.UTF_8));
+        event.finish(-1, -1, -1, -1);
     }
 
     // MODIFIES: this
-    // EFFECTS: writes JSON representation of team to file
+    // EFFECTS: writes JSON representation of the team's current snapshot to file
     public void write(Team team)  {
+        write(team.snapshot());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes JSON representation of team to file
+    public void write(TeamSnapshot team)  {
+        long start = System.nanoTime();
+        PersistenceEvent event = PersistenceEvent.start("JsonWriter.write", destination);
+        PersistenceEvent stage = PersistenceEvent.start("JsonWriter.toJson", destination);
         JSONObject json = team.toJson();
-        saveToFile(json.toString(TAB));
+        finish(stage, json, null);
+        stage = PersistenceEvent.start("JsonWriter.toString", destination);
+        String text = json.toString(TAB);
+        finish(stage, json, text);
+        stage = PersistenceEvent.start("JsonWriter.print", destination);
+        saveToFile(text);
+        finish(stage, json, text);
+        finish(event, json, text);
+        WRITE_LATENCY.recordSince(start);
+    }
+
+    // EFFECTS: streams team to a temporary file next to the destination one entity at a time, reporting every
+    //          written player, game and training session to listener, then forces it to disk and renames it over
+    //          the destination, forcing the rename to disk too, so the destination always holds a complete team,
+    //          even after a crash, and no more than one entity is held as JSON at once; throws IOException if the
+    //          team cannot be written, and CancellationException (leaving the destination untouched) if listener
+    //          asks for cancellation
+    public void writeAtomically(TeamSnapshot team, ProgressListener listener) throws IOException {
+        long start = System.nanoTime();
+        PersistenceEvent event = PersistenceEvent.start("JsonWriter.writeAtomically", destination);
+        Path target = Paths.get(destination);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long bytes;
+        try {
+            streamTo(temp, team, listener);
+            force(temp, StandardOpenOption.WRITE);
+            bytes = Files.size(temp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        moveDurably(temp, target);
+        event.finish(team.getPlayers().size(), team.getGames().size(), team.getTrainingSessions().size(), bytes);
+        WRITE_LATENCY.recordSince(start);
+    }
+
+    // EFFECTS: renames temp over target, atomically where the file system allows it, then forces the directory
+    //          entry to disk where the platform lets a directory be opened
+    private static void moveDurably(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (DIRECTORIES_SYNCABLE) {
+            force(target.toAbsolutePath().getParent(), StandardOpenOption.READ);
+        }
+    }
+
+    // EFFECTS: forces the contents of file, or the entries of a directory, opened with the given option to the
+    //          storage device
+    private static void force(Path file, StandardOpenOption option) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, option)) {
+            channel.force(true);
+        }
+    }
+
+    // EFFECTS: writes team to file one entity at a time, counting each one in a progress counter for listener
+    private static void streamTo(Path file, TeamSnapshot team, ProgressListener listener) throws IOException {
+        Progress progress = new Progress(listener,
+                team.getPlayers().size() + team.getGames().size() + team.getTrainingSessions().size());
+        progress.checkCancelled();
+        try (TeamStreamWriter stream = new TeamStreamWriter(file.toString())) {
+            stream.beginTeam(team.getTeamName(), team.getLowerBoundAge(), team.getUpperBoundAge());
+            for (Writable player : team.getPlayers()) {
+                stream.writePlayer(player);
+                progress.step();
+            }
+            for (Writable game : team.getGames()) {
+                stream.writeGame(game);
+                progress.step();
+            }
+            for (Writable session : team.getTrainingSessions()) {
+                stream.writeTrainingSession(session);
+                progress.step();
+            }
+            stream.endTeam();
+        }
     }
 
     // MODIFIES: this
     // EFFECTS: closes writer
     public void close() {
+        PersistenceEvent event = PersistenceEvent.start("JsonWriter.close", destination);
         writer.close();
+        event.finish(-1, -1, -1, -1);
+    }
+
+    // MODIFIES: event
+    // EFFECTS: finishes event with the entity counts of the serialized team and the size of text, which is null
+    //          for a step that has produced no text yet
+    private static void finish(PersistenceEvent event, JSONObject json, String text) {
+        event.finish(json.getJSONArray("players").length(), json.getJSONArray("games").length(),
+                json.getJSONArray("trainingSessions").length(), text);
     }
 
     // MODIFIES: this
@@ -0,0 +1,552 @@
+package persistence;
+
+import model.Game;
+import model.Player;
+import model.Team;
+import model.TeamSnapshot;
+import model.TrainingSession;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * PagedTeamRepository is a TeamRepository that keeps any number of teams in one file made of fixed-size pages.
+ * Every team, player, game and training session is its own record, keyed by (team id, kind, entity id) and
+ * stored in one or more consecutive pages; recently read pages are cached, and saving a single game writes only
+ * that game's pages. A game's record is found by its date and opponent, which never change, so any Team object
+ * holding the game, loaded from this store or not, can save it without the game being stored twice.
+ *
+ * Records are never overwritten in place. A save writes the new records to unused pages and forces them to disk
+ * before the old pages are released, so a crash at any point leaves the previous version readable. Every record
+ * carries the id of the team save it belongs to, a generation number and a checksum; a team save becomes
+ * current only once its team record, written last, is on disk.
+ *
+ * The key index is written to the file when the store is closed and read back when it is opened, so opening a
+ * cleanly closed store reads a few bytes per record rather than every page. Only after a crash is the index
+ * rebuilt by reading every record, which costs time proportional to the size of the file.
+ */
+public class PagedTeamRepository implements TeamRepository, Closeable {
+    public static final int PAGE_SIZE = 4096;
+    private static final int MAGIC = 0x42544D53;
+    private static final int HEADER_BYTES = 37;
+    private static final int INDEX_ENTRY_BYTES = 24;
+    private static final int CACHE_PAGES = 256;
+    private static final int ENTITY_BITS = 28;
+    private static final int MAX_ENTITY_ID = (1 << ENTITY_BITS) - 1;
+    private static final byte TEAM = 1;
+    private static final byte PLAYER = 2;
+    private static final byte GAME = 3;
+    private static final byte SESSION = 4;
+    private static final byte INDEX = 5;
+
+    private final FileChannel channel;
+    private final JsonReader codec;
+    private final Map<Integer, ByteBuffer> cache;
+    private final TreeMap<Long, Record> index;
+    private final Map<String, Integer> teamIds;
+    private final Map<Integer, Map<String, Long>> gameKeys;
+    private final TreeSet<Integer> freePages;
+    private int pageCount;
+    private long generation;
+    private long pagesWritten;
+
+    /**
+     * Record is the location of one record on disk together with the team save it belongs to.
+     */
+    private static final class Record {
+        private final long key;
+        private final int page;
+        private final int span;
+        private final long saveId;
+        private final long generation;
+
+        // EFFECTS: constructs a record of the given key occupying span pages from page
+        private Record(long key, int page, int span, long saveId, long generation) {
+            this.key = key;
+            this.page = page;
+            this.span = span;
+            this.saveId = saveId;
+            this.generation = generation;
+        }
+    }
+
+    // EFFECTS: opens the store at path, creating it if it does not exist;
+    // throws IOException if the file cannot be opened or is not a page store
+    public PagedTeamRepository(String path) throws IOException {
+        this.channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.codec = new JsonReader(path);
+        this.cache = new LinkedHashMap<>(CACHE_PAGES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, ByteBuffer> eldest) {
+                return size() > CACHE_PAGES;
+            }
+        };
+        this.index = new TreeMap<>();
+        this.teamIds = new HashMap<>();
+        this.gameKeys = new HashMap<>();
+        this.freePages = new TreeSet<>();
+        this.pageCount = 1;
+        if (channel.size() > 0) {
+            open();
+        }
+        writeFileHeader(false, 0);
+        channel.force(false);
+    }
+
+    @Override
+    public List<String> teamNames() {
+        return new ArrayList<>(teamIds.keySet());
+    }
+
+    @Override
+    public Team load(String teamName) throws IOException {
+        Integer teamId = teamIds.get(teamName);
+        if (teamId == null) {
+            throw new IOException("No team named " + teamName);
+        }
+        Team team = null;
+        Map<String, Long> keys = new HashMap<>();
+        for (Record record : teamRecords(teamId).values()) {
+            JSONObject json = readJson(record.page);
+            if (kindOf(record.key) == TEAM) {
+                team = new Team(json.getString("name"), json.getInt("lowerBoundAge"), json.getInt("upperBoundAge"));
+            } else if (kindOf(record.key) == GAME) {
+                keys.put(gameIdentity(json), record.key);
+                team.addGame(codec.parseGame(json));
+            } else {
+                addEntity(team, kindOf(record.key), json);
+            }
+        }
+        gameKeys.put(teamId, keys);
+        return team;
+    }
+
+    @Override
+    public void save(Team team) throws IOException {
+        Integer existing = teamIds.get(team.getTeamName());
+        int teamId = existing == null ? nextTeamId() : existing;
+        TeamSnapshot snapshot = team.snapshot();
+        long saveId = ++generation;
+        Map<Long, Record> written = new TreeMap<>();
+        try {
+            writeAll(teamId, PLAYER, snapshot.getPlayers(), saveId, written);
+            writeAll(teamId, GAME, snapshot.getGames(), saveId, written);
+            writeAll(teamId, SESSION, snapshot.getTrainingSessions(), saveId, written);
+            channel.force(false);
+            Record header = writeRecord(key(teamId, TEAM, 0), encode(teamHeader(team)), saveId);
+            written.put(header.key, header);
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            written.values().forEach(this::release);
+            throw e;
+        }
+        replaceTeam(team, teamId, written, snapshot.getGames());
+    }
+
+    @Override
+    public void saveGame(Team team, Game game) throws IOException {
+        Integer teamId = teamIds.get(team.getTeamName());
+        if (teamId == null) {
+            save(team);
+            return;
+        }
+        Map<String, Long> keys = gameKeys(teamId);
+        String identity = gameIdentity(game);
+        Long key = keys.get(identity);
+        if (key == null) {
+            key = nextKey(teamId, GAME);
+            keys.put(identity, key);
+        }
+        Record written = writeRecord(key, encode(game.toJson()), index.get(key(teamId, TEAM, 0)).saveId);
+        channel.force(false);
+        Record old = index.put(key, written);
+        if (old != null) {
+            release(old);
+        }
+    }
+
+    // EFFECTS: returns the number of pages written since this store was opened
+    public long getPagesWritten() {
+        return pagesWritten;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the key index to the file, marks the store as cleanly closed and closes the file
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            Record checkpoint = writeRecord(key(0, INDEX, 0), encodeIndex(), 0);
+            channel.force(false);
+            writeFileHeader(true, checkpoint.page);
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes each entity as a record of the given kind under teamId and saveId, adding it to written
+    private void writeAll(int teamId, byte kind, List<? extends Writable> entities, long saveId,
+                          Map<Long, Record> written) throws IOException {
+        int entityId = 0;
+        for (Writable entity : entities) {
+            Record record = writeRecord(key(teamId, kind, entityId++), encode(entity.toJson()), saveId);
+            written.put(record.key, record);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes written the records of team under teamId, releasing the pages of its previous records, and
+    //          remembers the key of each of games, which are in the order they were written
+    private void replaceTeam(Team team, int teamId, Map<Long, Record> written, List<Game> games) {
+        NavigableMap<Long, Record> old = teamRecords(teamId);
+        old.values().forEach(this::release);
+        old.clear();
+        index.putAll(written);
+        teamIds.put(team.getTeamName(), teamId);
+        Map<String, Long> keys = new HashMap<>();
+        for (int i = 0; i < games.size(); i++) {
+            keys.put(gameIdentity(games.get(i)), key(teamId, GAME, i));
+        }
+        gameKeys.put(teamId, keys);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the keys of the games stored under teamId by game identity, reading them from the game
+    //          records if the team has not been loaded or saved since this store was opened
+    private Map<String, Long> gameKeys(int teamId) throws IOException {
+        Map<String, Long> keys = gameKeys.get(teamId);
+        if (keys == null) {
+            keys = new HashMap<>();
+            for (Record record : teamRecords(teamId).values()) {
+                if (kindOf(record.key) == GAME) {
+                    keys.put(gameIdentity(readJson(record.page)), record.key);
+                }
+            }
+            gameKeys.put(teamId, keys);
+        }
+        return keys;
+    }
+
+    // EFFECTS: returns what identifies game among a team's games: its date and opponent, which never change
+    private static String gameIdentity(Game game) {
+        return game.getFormattedDate() + " " + game.getOpponentName();
+    }
+
+    // EFFECTS: returns the identity of the game stored as json, as gameIdentity(Game) would for the parsed game
+    private static String gameIdentity(JSONObject json) {
+        return json.getString("date") + " " + json.getString("opponentName");
+    }
+
+    // EFFECTS: returns the record describing team itself
+    private static JSONObject teamHeader(Team team) {
+        JSONObject header = new JSONObject();
+        header.put("name", team.getTeamName());
+        header.put("lowerBoundAge", team.getLowerBoundAge());
+        header.put("upperBoundAge", team.getUpperBoundAge());
+        return header;
+    }
+
+    // MODIFIES: team
+    // EFFECTS: parses a player or training session, according to kind, and adds it to team
+    private void addEntity(Team team, byte kind, JSONObject json) {
+        if (kind == PLAYER) {
+            Player player = codec.parsePlayer(json);
+            team.addMember(player);
+        } else {
+            TrainingSession session = codec.parseTrainingSession(json);
+            team.addTrainingSession(session);
+        }
+    }
+
+    // EFFECTS: returns a live view of the index entries belonging to teamId
+    private NavigableMap<Long, Record> teamRecords(int teamId) {
+        return index.subMap(key(teamId, TEAM, 0), true, key(teamId, SESSION, MAX_ENTITY_ID), true);
+    }
+
+    // EFFECTS: returns an unused team id
+    private int nextTeamId() {
+        int next = 0;
+        for (int id : teamIds.values()) {
+            next = Math.max(next, id + 1);
+        }
+        return next;
+    }
+
+    // EFFECTS: returns an unused key for a new entity of the given kind under teamId
+    private long nextKey(int teamId, byte kind) {
+        Long last = index.floorKey(key(teamId, kind, MAX_ENTITY_ID));
+        if (last == null || last < key(teamId, kind, 0)) {
+            return key(teamId, kind, 0);
+        }
+        return last + 1;
+    }
+
+    // EFFECTS: returns the record key for the given team, kind and entity
+    private static long key(int teamId, byte kind, int entityId) {
+        return ((long) teamId << 32) | ((long) kind << ENTITY_BITS) | entityId;
+    }
+
+    // EFFECTS: returns the team id encoded in key
+    private static int teamOf(long key) {
+        return (int) (key >>> 32);
+    }
+
+    // EFFECTS: returns the kind encoded in key
+    private static byte kindOf(long key) {
+        return (byte) ((key >>> ENTITY_BITS) & 0xF);
+    }
+
+    // EFFECTS: returns the number of pages needed to hold a payload of the given length
+    private static int spanFor(int length) {
+        return (length + HEADER_BYTES + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+
+    // EFFECTS: returns json encoded as UTF-8
+    private static byte[] encode(JSONObject json) {
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // EFFECTS: returns the checksum of payload
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes payload as a new record for key under saveId in unused pages and returns its location;
+    //          the pages of any earlier record for key are left untouched
+    private Record writeRecord(long key, byte[] payload, long saveId) throws IOException {
+        int span = spanFor(payload.length);
+        Record record = new Record(key, allocate(span), span, saveId, ++generation);
+        ByteBuffer buffer = ByteBuffer.allocate(span * PAGE_SIZE);
+        buffer.put(kindOf(key)).putInt(teamOf(key)).putInt((int) (key & MAX_ENTITY_ID));
+        buffer.putInt(payload.length).putInt(span).putLong(saveId).putLong(record.generation);
+        buffer.putInt(checksum(payload)).put(payload);
+        writePages(record.page, buffer);
+        return record;
+    }
+
+    // EFFECTS: reads the record starting at page and returns its payload, or null if the page does not start a
+    //          complete record whose checksum matches
+    private byte[] readPayload(int page) throws IOException {
+        ByteBuffer first = readPage(page);
+        int length = first.getInt(9);
+        int span = first.getInt(13);
+        if (first.get(0) < TEAM || first.get(0) > INDEX || length < 0 || length > Integer.MAX_VALUE - PAGE_SIZE
+                || span != spanFor(length) || span > pageCount - page) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        int copied = Math.min(length, PAGE_SIZE - HEADER_BYTES);
+        first.get(HEADER_BYTES, payload, 0, copied);
+        for (int i = 1; i < span; i++) {
+            int chunk = Math.min(length - copied, PAGE_SIZE);
+            readPage(page + i).get(0, payload, copied, chunk);
+            copied += chunk;
+        }
+        return checksum(payload) == first.getInt(33) ? payload : null;
+    }
+
+    // EFFECTS: reads and parses the record starting at page;
+    // throws IOException if the record is damaged
+    private JSONObject readJson(int page) throws IOException {
+        byte[] payload = readPayload(page);
+        if (payload == null) {
+            throw new IOException("Damaged record at page " + page);
+        }
+        return new JSONObject(new String(payload, StandardCharsets.UTF_8));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the contents of page, reading it from disk if it is not cached
+    private ByteBuffer readPage(int page) throws IOException {
+        ByteBuffer buffer = cache.get(page);
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate(PAGE_SIZE);
+            channel.read(buffer, (long) page * PAGE_SIZE);
+            cache.put(page, buffer);
+        }
+        return buffer;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes buffer to disk starting at page and drops the overwritten pages from the cache
+    private void writePages(int page, ByteBuffer buffer) throws IOException {
+        buffer.rewind();
+        channel.write(buffer, (long) page * PAGE_SIZE);
+        int span = buffer.capacity() / PAGE_SIZE;
+        for (int i = 0; i < span; i++) {
+            cache.remove(page + i);
+        }
+        pagesWritten += span;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the first of span consecutive unused pages, reusing the first free run that is long
+    //          enough and growing the file otherwise
+    private int allocate(int span) {
+        if (span == 1 && !freePages.isEmpty()) {
+            return freePages.pollFirst();
+        }
+        int runStart = -1;
+        int runLength = 0;
+        for (int page : freePages) {
+            if (runLength == 0 || page != runStart + runLength) {
+                runStart = page;
+                runLength = 0;
+            }
+            runLength++;
+            if (runLength == span) {
+                freePages.subSet(runStart, runStart + span).clear();
+                return runStart;
+            }
+        }
+        int page = pageCount;
+        pageCount += span;
+        return page;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the pages of record available for reuse; the pages themselves are not written, since a
+    //          superseded record is recognised by its save id and generation
+    private void release(Record record) {
+        for (int i = 0; i < record.span; i++) {
+            freePages.add(record.page + i);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the header page, recording whether the store was closed cleanly and where its index is
+    private void writeFileHeader(boolean clean, int indexPage) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(PAGE_SIZE);
+        buffer.putInt(MAGIC).putInt(PAGE_SIZE).put(clean ? (byte) 1 : 0).putInt(indexPage).putLong(generation);
+        writePages(0, buffer);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the key index of an existing store, rebuilding it from the records if the store was not
+    //          closed cleanly, then marks every page not holding a current record as free;
+    // throws IOException if the file is not a page store
+    private void open() throws IOException {
+        ByteBuffer header = readPage(0);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a team page store");
+        }
+        pageCount = Math.max(1, (int) (channel.size() / PAGE_SIZE));
+        generation = header.getLong(13);
+        if (header.get(8) != 1 || !readIndex(header.getInt(9))) {
+            index.clear();
+            recover();
+        }
+        for (Record record : index.values()) {
+            if (kindOf(record.key) == TEAM) {
+                teamIds.put(readJson(record.page).getString("name"), teamOf(record.key));
+            }
+        }
+        collectFreePages();
+        cache.clear();
+    }
+
+    // EFFECTS: returns the key index encoded as fixed-size entries
+    private byte[] encodeIndex() {
+        ByteBuffer buffer = ByteBuffer.allocate(index.size() * INDEX_ENTRY_BYTES);
+        for (Record record : index.values()) {
+            buffer.putLong(record.key).putInt(record.page).putInt(record.span).putLong(record.saveId);
+        }
+        return buffer.array();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the key index written at indexPage when the store was closed; returns false if it is
+    //          missing or damaged
+    private boolean readIndex(int indexPage) throws IOException {
+        byte[] payload = indexPage > 0 && indexPage < pageCount ? readPayload(indexPage) : null;
+        if (payload == null || readPage(indexPage).get(0) != INDEX) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        while (buffer.remaining() >= INDEX_ENTRY_BYTES) {
+            long key = buffer.getLong();
+            index.put(key, new Record(key, buffer.getInt(), buffer.getInt(), buffer.getLong(), 0));
+        }
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rebuilds the key index by reading every record: each team's current save is the one named by its
+    //          newest team record, and each key's current record is its newest record from that save
+    private void recover() throws IOException {
+        List<Record> records = scanRecords();
+        Map<Integer, Long> currentSave = new HashMap<>();
+        for (Record record : records) {
+            Record newest = index.get(record.key);
+            if (kindOf(record.key) == TEAM && (newest == null || newest.generation < record.generation)) {
+                index.put(record.key, record);
+                currentSave.put(teamOf(record.key), record.saveId);
+            }
+        }
+        for (Record record : records) {
+            Record newest = index.get(record.key);
+            if (kindOf(record.key) != TEAM && record.saveId == currentSave.getOrDefault(teamOf(record.key), -1L)
+                    && (newest == null || newest.generation < record.generation)) {
+                index.put(record.key, record);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns every intact team, player, game and session record in the file, whether current or not
+    private List<Record> scanRecords() throws IOException {
+        List<Record> records = new ArrayList<>();
+        int page = 1;
+        while (page < pageCount) {
+            ByteBuffer header = readPage(page);
+            if (readPayload(page) == null) {
+                page++;
+                continue;
+            }
+            long key = key(header.getInt(1), header.get(0), header.getInt(5));
+            Record record = new Record(key, page, header.getInt(13), header.getLong(17), header.getLong(25));
+            if (kindOf(key) != INDEX) {
+                records.add(record);
+            }
+            generation = Math.max(generation, record.generation);
+            page += record.span;
+        }
+        return records;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks every page after the header that holds no current record as free
+    private void collectFreePages() {
+        BitSet used = new BitSet(pageCount);
+        for (Record record : index.values()) {
+            used.set(record.page, record.page + record.span);
+        }
+        for (int page = used.nextClearBit(1); page < pageCount; page = used.nextClearBit(page + 1)) {
+            freePages.add(page);
+        }
+    }
+}
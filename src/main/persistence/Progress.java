@@ -0,0 +1,40 @@
+package persistence;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Progress counts the units (entities or bytes) an operation has handled out of a known total and passes each step
+ * on to a ProgressListener, stopping the operation if the listener asks for cancellation.
+ */
+final class Progress {
+    private final ProgressListener listener;
+    private final int total;
+    private int done;
+
+    // EFFECTS: constructs a counter for total units that reports to listener
+    Progress(ProgressListener listener, int total) {
+        this.listener = listener;
+        this.total = total;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: counts one more entity and reports it; throws CancellationException if cancellation was requested
+    void step() {
+        advance(1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: counts count more units and reports them; throws CancellationException if cancellation was requested
+    void advance(int count) {
+        checkCancelled();
+        done += count;
+        listener.progress(done, total);
+    }
+
+    // EFFECTS: throws CancellationException if the listener has asked for cancellation
+    void checkCancelled() {
+        if (listener.isCancelRequested()) {
+            throw new CancellationException("Cancelled after " + done + " of " + total);
+        }
+    }
+}
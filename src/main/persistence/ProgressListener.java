@@ -0,0 +1,19 @@
+package persistence;
+
+/**
+ * ProgressListener represents an object that follows a long-running read or write of a team, and that may ask for
+ * the operation to be cancelled. Writes are followed one player, game or training session at a time; reads are
+ * followed in bytes of the file, then one game or training session at a time as they are built.
+ */
+public interface ProgressListener {
+    ProgressListener NONE = (done, total) -> { };
+
+    // EFFECTS: reacts to done of the total entities written or built, or bytes read, so far
+    void progress(int done, int total);
+
+    // EFFECTS: returns true if the operation should stop at the next entity or chunk; the operation then throws
+    //          java.util.concurrent.CancellationException
+    default boolean isCancelRequested() {
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+package persistence;
+
+import model.Game;
+import model.Team;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * TeamRepository represents a store of teams. Implementations decide how teams are laid out on disk;
+ * callers load and save teams by name and may record a change to a single game without rewriting the team.
+ */
+public interface TeamRepository {
+    // EFFECTS: returns the names of the teams held in this repository;
+    // throws IOException if the store cannot be read
+    List<String> teamNames() throws IOException;
+
+    // EFFECTS: reads the team with the given name and returns it;
+    // throws IOException if the team is not present or cannot be read
+    Team load(String teamName) throws IOException;
+
+    // MODIFIES: this
+    // EFFECTS: stores the whole team, replacing any team previously stored under the same name;
+    // throws IOException if the store cannot be written
+    void save(Team team) throws IOException;
+
+    // REQUIRES: game belongs to team
+    // MODIFIES: this
+    // EFFECTS: stores the current state of game as part of team;
+    // throws IOException if the store cannot be written
+    void saveGame(Team team, Game game) throws IOException;
+}
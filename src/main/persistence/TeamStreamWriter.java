@@ -0,0 +1,114 @@
+package persistence;
+
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TeamStreamWriter writes a team to a JSON file one player, game or training session at a time, so a team can be
+ * written without ever holding all of it in memory. The file has the same layout JsonWriter produces and can be
+ * read back with JsonReader. Entities must be written in section order: players, then games, then sessions.
+ */
+public class TeamStreamWriter implements Closeable {
+    private static final int HEADER = 0;
+    private static final int PLAYERS = 1;
+    private static final int GAMES = 2;
+    private static final int SESSIONS = 3;
+    private static final String[] SECTION_KEYS = {null, "players", "games", "trainingSessions"};
+    private final String destination;
+    private final PrintWriter writer;
+    private int section;
+    private boolean firstInSection;
+    private int written;
+
+    // EFFECTS: opens a writer to destination; throws FileNotFoundException if it cannot be opened for writing
+    public TeamStreamWriter(String destination) throws FileNotFoundException {
+        this.destination = destination;
+        this.writer = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(destination), StandardCharsets.UTF_8)));
+        this.section = HEADER;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts the team object with its name and age boundaries
+    public void beginTeam(String name, int lowerBoundAge, int upperBoundAge) {
+        writer.print("{\"name\":" + JSONObject.quote(name));
+        writer.print(",\"lowerBoundAge\":" + lowerBoundAge + ",\"upperBoundAge\":" + upperBoundAge);
+    }
+
+    // REQUIRES: no game or training session has been written yet
+    // MODIFIES: this
+    // EFFECTS: appends player to the players section
+    public void writePlayer(Writable player) {
+        writeEntity(PLAYERS, player);
+    }
+
+    // REQUIRES: no training session has been written yet
+    // MODIFIES: this
+    // EFFECTS: appends game to the games section
+    public void writeGame(Writable game) {
+        writeEntity(GAMES, game);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends session to the trainingSessions section
+    public void writeTrainingSession(Writable session) {
+        writeEntity(SESSIONS, session);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the remaining sections and the team object
+    public void endTeam() {
+        openSection(SESSIONS);
+        writer.println("]}");
+    }
+
+    // EFFECTS: returns the number of players, games and training sessions written so far
+    public int getEntitiesWritten() {
+        return written;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the file; throws IOException if anything could not be written
+    @Override
+    public void close() throws IOException {
+        writer.close();
+        if (writer.checkError()) {
+            throw new IOException("Error writing team to " + destination);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves on to the given section if needed and appends entity to it
+    private void writeEntity(int target, Writable entity) {
+        openSection(target);
+        if (!firstInSection) {
+            writer.print(',');
+        }
+        writer.println();
+        writer.print(entity.toJson().toString());
+        firstInSection = false;
+        written++;
+    }
+
+    // REQUIRES: target >= section
+    // MODIFIES: this
+    // EFFECTS: closes the current section and opens every section up to target, leaving skipped ones empty
+    private void openSection(int target) {
+        while (section < target) {
+            if (section != HEADER) {
+                writer.print(']');
+            }
+            section++;
+            writer.print(",\"" + SECTION_KEYS[section] + "\":[");
+            firstInSection = true;
+        }
+    }
+}
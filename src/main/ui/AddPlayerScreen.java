@@ -0,0 +1,124 @@
+package ui;
+
+import model.Player;
+import model.Position;
+import model.Team;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * Represents a screen for adding a player to a team.
+ */
+public class AddPlayerScreen extends Screen {
+    private final AppFrame frame;
+    private Team team;
+    private JTextField nameField;
+    private JTextField ageField;
+    private JComboBox<Position> positionField;
+    private JTextField jerseyNumberField;
+    private JButton addButton;
+    private JButton backButton;
+
+    /**
+     * Constructor for the AddPlayerScreen class.
+     *
+     * @param frame The application frame the screen is shown in.
+     * @param team The team to which the player will be added.
+     * Effects: Initializes the AddPlayerScreen with the specified team.
+     */
+    public AddPlayerScreen(AppFrame frame, Team team) {
+        super("Add Player", 400, 200);
+        this.frame = frame;
+        this.team = team;
+
+        initializeComponents();
+        layoutComponents();
+        addEventListeners();
+    }
+
+    /**
+     * Modifies: This instance of AddPlayerScreen
+     * Effects: Clears the fields, so that every visit starts a new player from scratch.
+     */
+    @Override
+    public void refresh() {
+        nameField.setText("");
+        ageField.setText("");
+        positionField.setSelectedIndex(0);
+        jerseyNumberField.setText("");
+    }
+
+    /**
+     * Modifies: This instance of AddPlayerScreen
+     * Effects: Initializes the text fields, the position selector and button.
+     */
+    private void initializeComponents() {
+        nameField = new JTextField(20);
+        ageField = new JTextField(5);
+        positionField = new JComboBox<>(Position.values());
+        jerseyNumberField = new JTextField(5);
+        addButton = new JButton("Add Player");
+        backButton = new JButton("Back to Home");
+    }
+
+    /**
+     * Modifies: This instance of AddPlayerScreen
+     * Effects: Sets up the layout of the components in a grid pattern.
+     */
+    private void layoutComponents() {
+        setLayout(new GridLayout(5, 2));
+        add(new JLabel("Name:"));
+        add(nameField);
+        add(new JLabel("Age:"));
+        add(ageField);
+        add(new JLabel("Position:"));
+        add(positionField);
+        add(new JLabel("Jersey Number:"));
+        add(jerseyNumberField);
+        add(backButton);
+        add(addButton);
+    }
+
+    /**
+     * Modifies: This instance of AddPlayerScreen
+     * Effects: Adds action listeners to the "Add Player" and "Back to Home" buttons.
+     */
+    private void addEventListeners() {
+        addButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                addPlayer();
+            }
+        });
+        backButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frame.showScreen(AppFrame.HOME);
+            }
+        });
+    }
+
+    /**
+     * Adds a player to the team based on the inputted information.
+     * Requires: None
+     * Modifies: This instance of AddPlayerScreen, the team
+     * Effects: Creates a new Player object with the inputted details,
+     *          adds it to the team, and displays a confirmation message.
+     */
+    private void addPlayer() {
+        String playerName = nameField.getText();
+        int playerAge = Integer.parseInt(ageField.getText());
+        Position playerPosition = (Position) positionField.getSelectedItem();
+        int jerseyNumber = Integer.parseInt(jerseyNumberField.getText());
+
+        Player player = new Player(playerName, playerAge, playerPosition);
+        player.setJerseyNumber(jerseyNumber);
+
+        team.addMember(player);
+        JOptionPane.showMessageDialog(this, "Player added successfully to the team: " + player.getName());
+        frame.showScreen(AppFrame.HOME);
+    }
+}
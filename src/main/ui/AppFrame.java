@@ -0,0 +1,140 @@
+package ui;
+
+import model.Team;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the single window of the application. Its screens are stacked in a CardLayout: each is built the
+ * first time it is shown and kept for later, so navigating between them only swaps cards instead of constructing
+ * and disposing whole frames. Screens that work on a team are thrown away when a different team is opened.
+ */
+public class AppFrame extends JFrame {
+    public static final String MAIN_MENU = "mainMenu";
+    public static final String CREATE_TEAM = "createTeam";
+    public static final String HOME = "home";
+    public static final String ADD_PLAYER = "addPlayer";
+    public static final String PLAYER_LIST = "playerList";
+    public static final String GAMES = "games";
+    public static final String TRAINING = "training";
+    private final CardLayout cards;
+    private final JPanel deck;
+    private final Map<String, Screen> screens;
+    private Team team;
+    private Team preloadedTeam;
+
+    /**
+     * Modifies: This instance of AppFrame
+     * Effects: Initializes an empty, hidden frame with no team open.
+     */
+    public AppFrame() {
+        this.cards = new CardLayout();
+        this.deck = new JPanel(cards);
+        this.screens = new HashMap<>();
+        setDefaultCloseOperation(EXIT_ON_CLOSE);
+        add(deck, BorderLayout.CENTER);
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    /**
+     * Modifies: This instance of AppFrame
+     * Effects: Keeps team, read from the saved team file while the application started, for the next time the
+     *          user loads the saved team; null means there is none.
+     */
+    public void offerPreloadedTeam(Team team) {
+        this.preloadedTeam = team;
+    }
+
+    /**
+     * Modifies: This instance of AppFrame
+     * Effects: Returns the preloaded team and forgets it, so that it is used at most once, or null if there is
+     *          none; later loads read the saved team file again.
+     */
+    public Team takePreloadedTeam() {
+        Team preloaded = this.preloadedTeam;
+        this.preloadedTeam = null;
+        return preloaded;
+    }
+
+    /**
+     * Modifies: This instance of AppFrame
+     * Effects: Makes team the open team, throwing away the screens built for any other team, and shows its home
+     *          screen.
+     */
+    public void openTeam(Team team) {
+        if (team != this.team) {
+            for (String name : new String[] {HOME, ADD_PLAYER, PLAYER_LIST, GAMES, TRAINING}) {
+                Screen screen = screens.remove(name);
+                if (screen != null) {
+                    screen.release();
+                    deck.remove(screen);
+                }
+            }
+            this.team = team;
+        }
+        showScreen(HOME);
+    }
+
+    /**
+     * Requires: name is one of the screen names of this class; a team is open unless name is MAIN_MENU or
+     *           CREATE_TEAM
+     * Modifies: This instance of AppFrame
+     * Effects: Builds the named screen if it has not been shown before, refreshes it and shows it, making the
+     *          frame visible if it is not yet.
+     */
+    public void showScreen(String name) {
+        Screen screen = screens.get(name);
+        if (screen == null) {
+            screen = build(name);
+            screens.put(name, screen);
+            deck.add(screen, name);
+        }
+        screen.refresh();
+        cards.show(deck, name);
+        setTitle(screen.getTitle());
+        if (!getSize().equals(screen.getFrameSize())) {
+            setSize(screen.getFrameSize());
+        }
+        if (!isVisible()) {
+            setLocationRelativeTo(null);
+            setVisible(true);
+        }
+    }
+
+    /**
+     * Effects: Returns a new instance of the named screen.
+     */
+    private Screen build(String name) {
+        switch (name) {
+            case MAIN_MENU:
+                return new MainMenuScreen(this);
+            case CREATE_TEAM:
+                return new CreateTeamScreen(this);
+            case HOME:
+                return new HomeScreen(this, team);
+            case ADD_PLAYER:
+                return new AddPlayerScreen(this, team);
+            case PLAYER_LIST:
+                return new PlayerListScreen(this, team);
+            case GAMES:
+                return new GamesMenuScreen(this, team);
+            case TRAINING:
+                return new TrainingSessionScreen(this, team);
+            default:
+                throw new IllegalArgumentException("No screen named " + name);
+        }
+    }
+
+    /**
+     * Effects: Starts the application at the main menu.
+     */
+    public static void main(String[] args) {
+        SwingUtilities.invokeLater(() -> new AppFrame().showScreen(MAIN_MENU));
+    }
+}
@@ -0,0 +1,88 @@
+package ui;
+
+import persistence.ProgressListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Runs a load or save off the Swing event thread while a progress monitor shows how much of the file has been read,
+ * or how many players, games and training sessions have been written. The monitor's Cancel button stops the task at
+ * the next chunk or entity. The result, or the failure, is handed back on the event thread.
+ */
+public class BackgroundTask<T> extends SwingWorker<T, Void> {
+    private static final int MILLIS_TO_POPUP = 300;
+    private final Work<T> work;
+    private final Consumer<T> onSuccess;
+    private final Consumer<Exception> onFailure;
+    private final ProgressMonitor monitor;
+
+    /**
+     * The work to run in the background, reporting its progress to listener.
+     */
+    public interface Work<T> {
+        T run(ProgressListener listener) throws Exception;
+    }
+
+    /**
+     * Requires: work, onSuccess and onFailure are not null
+     * Modifies: This instance of BackgroundTask
+     * Effects: Prepares a task that runs work and then calls onSuccess with its result, or onFailure with the
+     *          exception it threw (a CancellationException if the user cancelled it).
+     */
+    public BackgroundTask(Component parent, String message, Work<T> work, Consumer<T> onSuccess,
+                          Consumer<Exception> onFailure) {
+        this.work = work;
+        this.onSuccess = onSuccess;
+        this.onFailure = onFailure;
+        this.monitor = new ProgressMonitor(parent, message, "", 0, 100);
+        monitor.setMillisToDecideToPopup(MILLIS_TO_POPUP);
+        addPropertyChangeListener(event -> {
+            if ("progress".equals(event.getPropertyName())) {
+                monitor.setProgress((Integer) event.getNewValue());
+                monitor.setNote(getProgress() + "%");
+            }
+        });
+    }
+
+    /**
+     * Effects: Runs the work on a background thread, turning its progress into a percentage for the monitor.
+     */
+    @Override
+    protected T doInBackground() throws Exception {
+        return work.run(new ProgressListener() {
+            @Override
+            public void progress(int done, int total) {
+                if (total > 0) {
+                    setProgress(Math.min(100, (int) (100L * done / total)));
+                }
+            }
+
+            @Override
+            public boolean isCancelRequested() {
+                return isCancelled() || monitor.isCanceled();
+            }
+        });
+    }
+
+    /**
+     * Effects: Closes the monitor and hands the result or failure back, on the Swing event thread.
+     */
+    @Override
+    protected void done() {
+        monitor.close();
+        try {
+            onSuccess.accept(get());
+        } catch (CancellationException e) {
+            onFailure.accept(e);
+        } catch (ExecutionException e) {
+            onFailure.accept(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            onFailure.accept(e);
+        }
+    }
+}
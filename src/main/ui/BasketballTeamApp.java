@@ -1,23 +1,21 @@
 package ui;
 
 import model.*;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import persistence.JsonTeamRepository;
+import persistence.TeamRepository;
 
 import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Scanner;
-import java.io.FileNotFoundException;
 
 public class BasketballTeamApp {
     private static final String JSON_STORE = "./data/team.json";
     private Team team;
     private Scanner input;
-    private JsonWriter jsonWriter;
-    private JsonReader jsonReader;
+    private TeamRepository repository;
 
     /**
      * BasketballTeamApp represents an application for managing a basketball team,
@@ -27,8 +25,7 @@ public class BasketballTeamApp {
     public BasketballTeamApp() {
         team = null;
         input = new Scanner(System.in);
-        jsonWriter = new JsonWriter(JSON_STORE);
-        jsonReader = new JsonReader(JSON_STORE);
+        repository = new JsonTeamRepository(JSON_STORE);
         runTeamManagementApp();
     }
 
@@ -169,8 +166,7 @@ public class BasketballTeamApp {
         String playerName = input.next();
         System.out.print("Enter player age: ");
         int playerAge = input.nextInt();
-        System.out.print("Enter player position: ");
-        String playerPosition = input.next();
+        Position playerPosition = inputPosition();
         System.out.print("Enter player jersey number: ");
         int jerseyNumber = input.nextInt();
 
@@ -181,6 +177,18 @@ public class BasketballTeamApp {
         System.out.println("\nPlayer added successfully to the team: " + player.getName());
     }
 
+    // EFFECTS: Prompts for a position until one of PG, SG, SF, PF or C is entered and returns it
+    private Position inputPosition() {
+        while (true) {
+            System.out.print("Enter player position (PG, SG, SF, PF or C): ");
+            try {
+                return Position.parse(input.next());
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+            }
+        }
+    }
+
     // EFFECTS: Displays the list of players in the team along with their positions and jersey numbers
     //          Also calls the viewPlayerStats method to view stats for a specific player
     private void viewPlayerList() {
@@ -190,7 +198,7 @@ public class BasketballTeamApp {
         }
 
         System.out.println("\nPlayer List:");
-        ArrayList<Player> players = team.getPlayers();
+        List<Player> players = team.getPlayers();
         for (Player player : players) {
             System.out.println(player.getName() + " - " + player.getPosition() + " - " + player.getJerseyNumber());
         }
@@ -273,7 +281,7 @@ public class BasketballTeamApp {
             return;
         }
 
-        ArrayList<Game> games = team.getGames();
+        List<Game> games = team.getGames();
         if (games.isEmpty()) {
             System.out.println("\nNo games scheduled yet.");
         } else {
@@ -295,7 +303,7 @@ public class BasketballTeamApp {
             return;
         }
 
-        ArrayList<Game> games = team.getGames();
+        List<Game> games = team.getGames();
 
         if (games.isEmpty()) {
             System.out.println("\nNo games scheduled yet.");
@@ -308,14 +316,29 @@ public class BasketballTeamApp {
             return;
         }
 
-        int totalHomeScore = inputPlayerStatsForHomeTeam();
-        int opponentScore = inputOpponentScore();
+        if (recordBoxScore(selectedGame)) {
+            updateGameOutcome(selectedGame);
+        }
+    }
 
-        updateGameOutcome(selectedGame, totalHomeScore, opponentScore);
+    // MODIFIES: team, selectedGame
+    // EFFECTS: Prompts for every player's stat line and the opponent's score and records them on selectedGame in
+    //          one operation; returns false, recording nothing, if any number entered is negative
+    private boolean recordBoxScore(Game selectedGame) {
+        List<Player> players = team.getPlayers();
+        int[][] statLines = inputPlayerStatsForHomeTeam(players);
+        int opponentScore = inputOpponentScore();
+        try {
+            team.recordBoxScore(selectedGame, new BoxScore(players, statLines, opponentScore));
+            return true;
+        } catch (IllegalArgumentException e) {
+            System.out.println("Box score not recorded: " + e.getMessage());
+            return false;
+        }
     }
 
     // EFFECTS: Allows the user to select a game from a list and returns the selected game
-    private Game selectGameFromList(ArrayList<Game> games) {
+    private Game selectGameFromList(List<Game> games) {
         System.out.println("\nSelect a game to record outcome:");
         for (int i = 0;  i < games.size(); i++) {
             System.out.println((i + 1) + ". " + games.get(i).getOpponentName() + " - " + games.get(i).getDate());
@@ -329,27 +352,20 @@ public class BasketballTeamApp {
         return games.get(gameNumber - 1);
     }
 
-    private int inputPlayerStatsForHomeTeam() {
+    // EFFECTS: Prompts for the points, assists, rebounds and blocks of each player and returns them as one
+    //          stat line per player, in BoxScore.STATS order
+    private int[][] inputPlayerStatsForHomeTeam(List<Player> players) {
         System.out.println("\nInput individual player stats to determine the home team's score:");
-        ArrayList<Player> players = team.getPlayers();
-        int totalHomeScore = 0;
-        for (Player player : players) {
-            System.out.println("\nPlayer: " + player.getName());
-            System.out.print("Enter points scored by " + player.getName() + ": ");
-            int points = input.nextInt();
-            totalHomeScore += points;
-            player.getStats().addPoints(points);
-            System.out.print("Enter assists given by " + player.getName() + ": ");
-            int assists = input.nextInt();
-            player.getStats().addAssists(assists);
-            System.out.print("Enter rebounds by " + player.getName() + ": ");
-            int rebounds = input.nextInt();
-            player.getStats().addRebounds(rebounds);
-            System.out.print("Enter blocks by " + player.getName() + ": ");
-            int blocks = input.nextInt();
-            player.getStats().addBlocks(blocks);
-        }
-        return totalHomeScore;
+        int[][] statLines = new int[players.size()][BoxScore.STATS.length];
+        for (int i = 0; i < players.size(); i++) {
+            String name = players.get(i).getName();
+            System.out.println("\nPlayer: " + name);
+            for (int stat = 0; stat < BoxScore.STATS.length; stat++) {
+                System.out.print("Enter " + BoxScore.STATS[stat].toLowerCase() + " by " + name + ": ");
+                statLines[i][stat] = input.nextInt();
+            }
+        }
+        return statLines;
     }
 
     private int inputOpponentScore() {
@@ -357,13 +373,8 @@ public class BasketballTeamApp {
         return input.nextInt();
     }
 
-    // MODIFIES: Game
-    // EFFECTS: Updates the game outcome and displays the result, prompting user to return to game menu
-    private void updateGameOutcome(Game selectedGame, int totalHomeScore, int opponentScore) {
-        selectedGame.setHomeScore(totalHomeScore);
-        selectedGame.setOpponentScore(opponentScore);
-        selectedGame.setIsWin(totalHomeScore > opponentScore);
-
+    // EFFECTS: Displays the recorded game outcome, prompting user to return to game menu
+    private void updateGameOutcome(Game selectedGame) {
         System.out.println("\nGame Outcome Recorded:");
         System.out.println("Opponent: " + selectedGame.getOpponentName());
         System.out.println("Date: " + selectedGame.getDate());
@@ -438,7 +449,7 @@ public class BasketballTeamApp {
             return;
         }
 
-        ArrayList<TrainingSession> trainingSessions = team.getTrainingSessions();
+        List<TrainingSession> trainingSessions = team.getTrainingSessions();
         if (trainingSessions.isEmpty()) {
             System.out.println("\nNo training sessions scheduled yet.");
         } else {
@@ -448,7 +459,7 @@ public class BasketballTeamApp {
     }
 
 
-    private void displayTrainingSessions(ArrayList<TrainingSession> trainingSessions) {
+    private void displayTrainingSessions(List<TrainingSession> trainingSessions) {
         System.out.println("\nTraining Sessions:");
         for (int i = 0; i < trainingSessions.size(); i++) {
             TrainingSession trainingSession = trainingSessions.get(i);
@@ -466,7 +477,7 @@ public class BasketballTeamApp {
     }
 
     // EFFECTS: Offers update options for the selected training session and performs the selected action
-    private void offerUpdateOptions(ArrayList<TrainingSession> trainingSessions) {
+    private void offerUpdateOptions(List<TrainingSession> trainingSessions) {
         System.out.print("Enter session number to update or 'q' to go back to Main Menu: ");
         String sessionNumber = input.next().toLowerCase();
         if (!sessionNumber.equals("q")) {
@@ -507,30 +518,65 @@ public class BasketballTeamApp {
     }
 
     // MODIFIES: training session's attendee list
-    // EFFECTS: Adds a player as an attendee to the training session
+    // EFFECTS: Adds a player, named or picked from suggestions, as an attendee to the training session
     private void addAttendeeToTrainingSession(TrainingSession trainingSession) {
-        System.out.print("Enter jersey number of the player to add as attendee: ");
-        int jerseyNumber = input.nextInt();
-        Player player = team.findPlayerByJerseyNumber(jerseyNumber);
+        System.out.print("Enter name of the player to add as attendee: ");
+        Player player = pickPlayer(readLine());
         if (player != null) {
             trainingSession.addAttendee(player.getName());
             System.out.println(player.getName() + " added as attendee to the training session.");
         } else {
-            System.out.println("Player with jersey number " + jerseyNumber + " not found.");
+            System.out.println("Player not found.");
         }
         updateTrainingSession(trainingSession);
     }
 
+    // EFFECTS: Returns the player called name; if there is none, lists the closest matches and returns the one
+    //          the user picks, or null if the user picks none
+    private Player pickPlayer(String name) {
+        Player player = team.findPlayerByName(name);
+        if (player != null) {
+            return player;
+        }
+        List<Player> suggestions = team.suggestPlayers(name, 5);
+        if (suggestions.isEmpty()) {
+            return null;
+        }
+        System.out.println("Did you mean:");
+        for (int i = 0; i < suggestions.size(); i++) {
+            System.out.println("\t" + (i + 1) + " -> " + suggestions.get(i).getName());
+        }
+        System.out.print("Enter a number, or 0 for none: ");
+        int choice = readChoice();
+        return choice >= 1 && choice <= suggestions.size() ? suggestions.get(choice - 1) : null;
+    }
+
+    // EFFECTS: Returns the rest of the current input line if it holds more than spaces, otherwise the whole next
+    //          line, trimmed, so a name may contain spaces
+    private String readLine() {
+        String rest = input.nextLine().trim();
+        return rest.isEmpty() ? input.nextLine().trim() : rest;
+    }
+
+    // EFFECTS: Reads a whole line and returns the number on it, or 0 if it does not hold a number
+    private int readChoice() {
+        String line = input.nextLine().trim();
+        try {
+            return Integer.parseInt(line);
+        } catch (NumberFormatException e) {
+            System.out.println("Not a number: " + line);
+            return 0;
+        }
+    }
+
     // Saves team data to a JSON file
     private void saveTeamData() {
         if (team != null) {
             try {
-                jsonWriter.open();
-                jsonWriter.write(team);
-                jsonWriter.close();
+                repository.save(team);
                 System.out.println("Team data saved successfully to " + JSON_STORE);
                 System.exit(0);
-            } catch (FileNotFoundException e) {
+            } catch (IOException e) {
                 System.out.println("Error saving team data: " + e.getMessage());
             }
         }
@@ -539,7 +585,11 @@ public class BasketballTeamApp {
     // EFFECTS: Loads team data from a JSON file (if it exists)
     void loadTeamData() {
         try {
-            team = jsonReader.readTeam();
+            List<String> teamNames = repository.teamNames();
+            if (teamNames.isEmpty()) {
+                throw new IOException("No team in " + JSON_STORE);
+            }
+            team = repository.load(teamNames.get(0));
             System.out.println("Team data loaded successfully from " + JSON_STORE);
         } catch (IOException e) {
             System.out.println("Team data file not found. Please create a new team.");
@@ -0,0 +1,115 @@
+package ui;
+
+import model.BoxScore;
+import model.Game;
+import model.Player;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a spreadsheet-style editor for a whole box score: one row per player with a cell for each stat, and a
+ * field for the opponent's score. Nothing is checked while typing; when the user confirms, every cell is checked in
+ * one pass and all the problems are listed together, and the editor is shown again with the entries kept until the
+ * box score is valid or the user cancels.
+ */
+public class BoxScoreEditor extends JPanel {
+    private final List<Player> players;
+    private final DefaultTableModel cells;
+    private final JTable table;
+    private final JTextField opponentScoreField;
+
+    /**
+     * Requires: players is not null
+     * Modifies: This instance of BoxScoreEditor
+     * Effects: Initializes a grid with a row of zeros for each player and an empty opponent score.
+     */
+    public BoxScoreEditor(List<Player> players) {
+        super(new BorderLayout());
+        this.players = players;
+        String[] columns = new String[BoxScore.STATS.length + 1];
+        columns[0] = "Player";
+        System.arraycopy(BoxScore.STATS, 0, columns, 1, BoxScore.STATS.length);
+        this.cells = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return column > 0;
+            }
+        };
+        for (Player player : players) {
+            Object[] row = {player.getName(), "0", "0", "0", "0"};
+            cells.addRow(row);
+        }
+        this.table = new JTable(cells);
+        table.putClientProperty("terminateEditOnFocusLost", Boolean.TRUE);
+        this.opponentScoreField = new JTextField(6);
+        JPanel opponentPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        opponentPanel.add(new JLabel("Opponent's score:"));
+        opponentPanel.add(opponentScoreField);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(opponentPanel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * Effects: Shows an editor for the box score of game over parent until the entries are valid, and returns the
+     *          box score, or null if the user cancels.
+     */
+    public static BoxScore edit(Component parent, Game game, List<Player> players) {
+        BoxScoreEditor editor = new BoxScoreEditor(players);
+        String title = "Box Score - " + game.getOpponentName() + " on " + game.getFormattedDate();
+        while (JOptionPane.showConfirmDialog(parent, editor, title, JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE) == JOptionPane.OK_OPTION) {
+            List<String> problems = new ArrayList<>();
+            BoxScore boxScore = editor.read(problems);
+            if (problems.isEmpty()) {
+                return boxScore;
+            }
+            JOptionPane.showMessageDialog(parent, String.join("\n", problems), "Box score not recorded",
+                    JOptionPane.ERROR_MESSAGE);
+        }
+        return null;
+    }
+
+    /**
+     * Modifies: problems, this instance of BoxScoreEditor
+     * Effects: Finishes any cell being edited and reads every entry, adding a message to problems for each one
+     *          that is not a whole number of zero or more; returns the box score if there were none, else null.
+     */
+    private BoxScore read(List<String> problems) {
+        if (table.isEditing()) {
+            table.getCellEditor().stopCellEditing();
+        }
+        int[][] lines = new int[players.size()][BoxScore.STATS.length];
+        for (int row = 0; row < lines.length; row++) {
+            for (int stat = 0; stat < BoxScore.STATS.length; stat++) {
+                String label = players.get(row).getName() + ", " + BoxScore.STATS[stat];
+                lines[row][stat] = parse(label, cells.getValueAt(row, stat + 1), problems);
+            }
+        }
+        int opponentScore = parse("Opponent's score", opponentScoreField.getText(), problems);
+        return problems.isEmpty() ? new BoxScore(players, lines, opponentScore) : null;
+    }
+
+    /**
+     * Modifies: problems
+     * Effects: Returns value as a whole number from 0 to BoxScore.MAX_VALUE; otherwise adds a message naming label
+     *          to problems and returns 0.
+     */
+    private static int parse(String label, Object value, List<String> problems) {
+        String text = value == null ? "" : value.toString().trim();
+        int number;
+        try {
+            number = Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            number = -1;
+        }
+        if (number < 0 || number > BoxScore.MAX_VALUE) {
+            problems.add(label + ": \"" + text + "\" is not a whole number from 0 to " + BoxScore.MAX_VALUE);
+            return 0;
+        }
+        return number;
+    }
+}
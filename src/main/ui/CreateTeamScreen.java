@@ -0,0 +1,95 @@
+package ui;
+
+import model.Team;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * Represents the screen for creating a new basketball team, allowing the user
+ * to input the team name, lower bound age, and upper bound age.
+ */
+public class CreateTeamScreen extends Screen {
+    private final AppFrame frame;
+    private JTextField teamNameField;
+    private JTextField lowerBoundAgeField;
+    private JTextField upperBoundAgeField;
+    private JButton createTeamButton;
+    private JButton backButton;
+
+    /**
+     * Requires: AppFrame object
+     * Modifies: This instance of CreateTeamScreen
+     * Effects: Initializes the CreateTeamScreen and sets up its components.
+     */
+    public CreateTeamScreen(AppFrame frame) {
+        super("Create New Team", 400, 200);
+        this.frame = frame;
+
+        initializeComponents();
+        layoutComponents();
+        addEventListeners();
+    }
+
+    /**
+     * Modifies: This instance of CreateTeamScreen
+     * Effects: Clears the fields, so that every visit starts a new team from scratch.
+     */
+    @Override
+    public void refresh() {
+        teamNameField.setText("");
+        lowerBoundAgeField.setText("");
+        upperBoundAgeField.setText("");
+    }
+
+    /**
+     * Modifies: This instance of CreateTeamScreen
+     * Effects: Initializes the text fields and buttons.
+     */
+    private void initializeComponents() {
+        teamNameField = new JTextField(20);
+        lowerBoundAgeField = new JTextField(5);
+        upperBoundAgeField = new JTextField(5);
+        createTeamButton = new JButton("Create Team");
+        backButton = new JButton("Back");
+    }
+
+    /**
+     * Modifies: This instance of CreateTeamScreen
+     * Effects: Sets up the grid layout and adds components to the panel.
+     */
+    private void layoutComponents() {
+        setLayout(new GridLayout(4, 2));
+        add(new JLabel("Team Name:"));
+        add(teamNameField);
+        add(new JLabel("Lower Bound Age:"));
+        add(lowerBoundAgeField);
+        add(new JLabel("Upper Bound Age:"));
+        add(upperBoundAgeField);
+        add(backButton);
+        add(createTeamButton);
+    }
+
+    /**
+     * Modifies: This instance of CreateTeamScreen
+     * Effects: Adds ActionListeners to createTeamButton and backButton.
+     */
+    private void addEventListeners() {
+        createTeamButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                String teamName = teamNameField.getText();
+                int lowerBoundAge = Integer.parseInt(lowerBoundAgeField.getText());
+                int upperBoundAge = Integer.parseInt(upperBoundAgeField.getText());
+                frame.openTeam(new Team(teamName, lowerBoundAge, upperBoundAge));
+            }
+        });
+        backButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frame.showScreen(AppFrame.MAIN_MENU);
+            }
+        });
+    }
+}
@@ -1,7 +1,7 @@
 package ui;
 
+import model.BoxScore;
 import model.Game;
-import model.Player;
 import model.Team;
 
 import javax.swing.*;
@@ -10,13 +10,14 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
- * Represents a window for managing games,including scheduling games, viewing game schedule, and recording game outcomes
+ * Represents a screen for managing games,including scheduling games, viewing game schedule, and recording game outcomes
  */
-public class GamesMenuWindow extends JFrame {
+public class GamesMenuScreen extends Screen {
+    private final AppFrame frame;
     private Team team;
     private JButton scheduleGameButton;
     private JButton viewGameScheduleButton;
@@ -24,32 +25,28 @@ public class GamesMenuWindow extends JFrame {
     private JButton backButton;
 
     /**
-     * Constructor for the GamesMenuWindow class.
+     * Constructor for the GamesMenuScreen class.
      *
-     * @param team The team for which the GamesMenuWindow is created.
+     * @param frame The application frame the screen is shown in.
+     * @param team The team for which the GamesMenuScreen is created.
      *             Requires: None
-     *             Modifies: This instance of GamesMenuWindow
-     *             Effects: Initializes the GamesMenuWindow with the specified team.
+     *             Modifies: This instance of GamesMenuScreen
+     *             Effects: Initializes the GamesMenuScreen with the specified team.
      */
-    public GamesMenuWindow(Team team) {
+    public GamesMenuScreen(AppFrame frame, Team team) {
+        super("Games Menu", 600, 600);
+        this.frame = frame;
         this.team = team;
 
-        setTitle("Games Menu");
-        setSize(600, 600);
-        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
-        setLocationRelativeTo(null);
-
         initializeComponents();
         layoutComponents();
         addEventListeners();
-
-        setVisible(true);
     }
 
     /**
-     * Modifies: This instance of GamesMenuWindow
+     * Modifies: This instance of GamesMenuScreen
      * Effects: Initializes the buttons for scheduling games, viewing game schedule,
-     * recording game outcomes, and going back to the home window.
+     * recording game outcomes, and going back to the home screen.
      */
     private void initializeComponents() {
         scheduleGameButton = new JButton("Schedule Game");
@@ -59,24 +56,22 @@ public class GamesMenuWindow extends JFrame {
     }
 
     /**
-     * Modifies: This instance of GamesMenuWindow
+     * Modifies: This instance of GamesMenuScreen
      * Effects: Sets up the layout of the buttons in a vertical arrangement.
      */
     private void layoutComponents() {
-        JPanel panel = new JPanel(new GridLayout(4, 1));
-
-        panel.add(scheduleGameButton);
-        panel.add(viewGameScheduleButton);
-        panel.add(recordGameOutcomeButton);
-        panel.add(backButton);
+        setLayout(new GridLayout(4, 1));
 
-        add(panel, BorderLayout.CENTER);
+        add(scheduleGameButton);
+        add(viewGameScheduleButton);
+        add(recordGameOutcomeButton);
+        add(backButton);
     }
 
     /**
-     * Modifies: This instance of GamesMenuWindow
+     * Modifies: This instance of GamesMenuScreen
      * Effects: Adds action listeners to the buttons for scheduling games,
-     * viewing game schedule, recording game outcomes, and going back to the home window.
+     * viewing game schedule, recording game outcomes, and going back to the home screen.
      */
     private void addEventListeners() {
         addGameEventListeners();
@@ -84,7 +79,7 @@ public class GamesMenuWindow extends JFrame {
     }
 
     /**
-     * Modifies: This instance of GamesMenuWindow
+     * Modifies: This instance of GamesMenuScreen
      * Effects: Adds action listeners to the buttons for scheduling games,
      * viewing game schedule, and recording game outcomes.
      */
@@ -110,28 +105,20 @@ public class GamesMenuWindow extends JFrame {
     }
 
     /**
-     * Modifies: This instance of GamesMenuWindow
-     * Effects: Adds an action listener to the back button for returning to the home window.
+     * Modifies: This instance of GamesMenuScreen
+     * Effects: Adds an action listener to the back button for returning to the home screen.
      */
     private void addBackButtonListener() {
         backButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                goToHomeWindow();
+                frame.showScreen(AppFrame.HOME);
             }
         });
     }
 
     /**
-     * Effects: Disposes the current GamesMenuWindow and opens a new HomeWindow.
-     */
-    private void goToHomeWindow() {
-        dispose();
-        new HomeWindow(team);
-    }
-
-    /**
-     * Modifies: This instance of GamesMenuWindow, the team
+     * Modifies: This instance of GamesMenuScreen, the team
      * Effects: Prompts the user to enter details for scheduling a game,
      * adds the game to the team, and displays a confirmation message.
      */
@@ -179,39 +166,31 @@ public class GamesMenuWindow extends JFrame {
 
 
     /**
-     * Effects: Displays the game schedule in a dialog box.
+     * Effects: Displays the game schedule in a paged, sortable and filterable table.
      */
     private void viewGameSchedule() {
         if (team == null) {
             JOptionPane.showMessageDialog(this, "No team created yet.");
             return;
         }
-        ArrayList<Game> games = team.getGames();
+        List<Game> games = team.getGames();
         if (games.isEmpty()) {
             JOptionPane.showMessageDialog(this, "No games scheduled yet.");
         } else {
-            StringBuilder scheduleText = new StringBuilder();
-            scheduleText.append("Game Schedule:\n");
-
-            for (Game game : games) {
-                scheduleText.append("Opponent: ").append(game.getOpponentName()).append("\n");
-                scheduleText.append("Date: ").append(game.getDate()).append("\n");
-                scheduleText.append("Venue: ").append(game.getVenue()).append("\n\n");
-            }
-            JOptionPane.showMessageDialog(this, scheduleText.toString(), "Game Schedule", JOptionPane.PLAIN_MESSAGE);
+            new ScheduleDialog(this, "Game Schedule", ScheduleTableModel.forGames(games));
         }
     }
 
     /**
-     * Effects: Prompts the user to select a game, input player stats,
-     * input opponent's score, updates game outcome, and displays the result.
+     * Effects: Prompts the user to select a game, enter the whole box score in one grid, records it on the team
+     * in one operation, and displays the result.
      */
     private void recordGameOutcome() {
         if (team == null) {
             JOptionPane.showMessageDialog(this, "No team created yet.");
             return;
         }
-        ArrayList<Game> games = team.getGames();
+        List<Game> games = team.getGames();
         if (games.isEmpty()) {
             JOptionPane.showMessageDialog(this, "No games scheduled yet.");
             return;
@@ -222,16 +201,18 @@ public class GamesMenuWindow extends JFrame {
             return;
         }
 
-        int totalHomeScore = inputPlayerStatsForHomeTeam();
-        int opponentScore = inputOpponentScore();
-        updateGameOutcome(selectedGame, totalHomeScore, opponentScore);
+        BoxScore boxScore = BoxScoreEditor.edit(this, selectedGame, team.getPlayers());
+        if (boxScore != null) {
+            team.recordBoxScore(selectedGame, boxScore);
+            updateGameOutcome(selectedGame);
+        }
     }
 
     /**
      * Effects: Displays a dialog box with a list of games for the user to select,
      * returns the selected game, or null if no game is selected.
      */
-    private Game selectGameFromList(ArrayList<Game> games) {
+    private Game selectGameFromList(List<Game> games) {
         Object[] options = new Object[games.size()];
         for (int i = 0; i < games.size(); i++) {
             options[i] = games.get(i).getOpponentName() + " - " + games.get(i).getDate();
@@ -245,42 +226,9 @@ public class GamesMenuWindow extends JFrame {
     }
 
     /**
-     * Effects: Prompts the user to input points, assists, rebounds, and blocks for each player,
-     * updates player statistics, and returns the total home score.
-     */
-    private int inputPlayerStatsForHomeTeam() {
-        int totalHomeScore = 0;
-        ArrayList<Player> players = team.getPlayers();
-        for (Player player : players) {
-            int points = Integer.parseInt(JOptionPane.showInputDialog(this, "Enter points by" + player.getName()));
-            totalHomeScore += points;
-            player.getStats().addPoints(points);
-            int assists = Integer.parseInt(JOptionPane.showInputDialog(this, "Enter assists by " + player.getName()));
-            player.getStats().addAssists(assists);
-            int rebounds = Integer.parseInt(JOptionPane.showInputDialog(this, "Enter rebounds by " + player.getName()));
-            player.getStats().addRebounds(rebounds);
-            int blocks = Integer.parseInt(JOptionPane.showInputDialog(this, "Enter blocks by " + player.getName()));
-            player.getStats().addBlocks(blocks);
-        }
-        return totalHomeScore;
-    }
-
-    /**
-     * Effects: Prompts the user to input the opponent's score and returns the inputted score.
+     * Effects: Displays the recorded game outcome.
      */
-    private int inputOpponentScore() {
-        return Integer.parseInt(JOptionPane.showInputDialog(this, "Enter opponent's score:"));
-    }
-
-    /**
-     * Effects: Updates the home score, opponent score, and win status of the selected game,
-     * displays the updated game outcome, and provides an option to return to the games menu.
-     */
-    private void updateGameOutcome(Game selectedGame, int totalHomeScore, int opponentScore) {
-        selectedGame.setHomeScore(totalHomeScore);
-        selectedGame.setOpponentScore(opponentScore);
-        selectedGame.setIsWin(totalHomeScore > opponentScore);
-
+    private void updateGameOutcome(Game selectedGame) {
         JOptionPane.showMessageDialog(this, "Game Outcome Recorded:\n"
                 + "Opponent: " + selectedGame.getOpponentName() + "\n"
                 + "Date: " + selectedGame.getDate() + "\n"
@@ -288,11 +236,5 @@ public class GamesMenuWindow extends JFrame {
                 + "Home Score: " + selectedGame.getHomeScore() + "\n"
                 + "Opponent Score: " + selectedGame.getOpponentScore() + "\n"
                 + "Win Status: " + (selectedGame.getIsWin() ? "Win" : "Loss"));
-        int option = JOptionPane.showConfirmDialog(this, "Back to Games menu?", "Game Menu", JOptionPane.YES_NO_OPTION);
-        if (option == JOptionPane.YES_OPTION) {
-            dispose();
-            new GamesMenuWindow(team);
-        }
-
     }
 }
@@ -0,0 +1,276 @@
+package ui;
+
+import model.EventLog;
+import model.Team;
+import persistence.AutosaveService;
+import persistence.JsonWriter;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import model.Event;
+
+/**
+ * Creates the home screen of the application, allowing users to navigate to different functionalities.
+ */
+public class HomeScreen extends Screen {
+    static final String RECOVERY_STORE = "./data/team.autosave.json";
+    private static final String JSON_STORE = "./data/team.json";
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+    private static AutosaveService autosave;
+    private final AppFrame frame;
+    private Team team;
+    private JLabel summaryLabel;
+    private JButton addPlayerButton;
+    private JButton viewPlayerListButton;
+    private JButton gamesMenuButton;
+    private JButton trainingSessionMenuButton;
+    private JButton quitButton;
+    private JsonWriter jsonWriter;
+    private boolean loadingGames;
+
+    /**
+     * Constructor for the HomeScreen class.
+     *
+     * @param frame The application frame the screen is shown in.
+     * @param team The team for which the HomeScreen is created.
+     * Requires: None
+     * Modifies: This instance of HomeScreen
+     * Effects: Initializes the HomeScreen with the specified team.
+     */
+    public HomeScreen(AppFrame frame, Team team) {
+        super("Home", 600, 600);
+        this.frame = frame;
+        this.team = team;
+        startAutosave(team);
+
+        initializeComponents();
+        layoutComponents();
+        addEventListeners();
+        addMoreEventListeners();
+    }
+
+    /**
+     * Modifies: This instance of HomeScreen
+     * Effects: Shows the team's current roster size and win-loss record. Until the team's games have been loaded
+     *          only the roster size is shown, and the games are loaded in the background, so the event thread
+     *          never waits for them.
+     */
+    @Override
+    public void refresh() {
+        if (team == null) {
+            return;
+        }
+        String roster = team.getTeamName() + " - " + team.getPlayers().size() + " players";
+        if (!team.isGamesLoaded()) {
+            summaryLabel.setText(roster);
+            loadGames();
+            return;
+        }
+        summaryLabel.setText(roster + ", record " + team.getRecord().getWins() + "-" + team.getRecord().getLosses());
+    }
+
+    /**
+     * Modifies: This instance of HomeScreen
+     * Effects: Loads the team's games on a background thread, unless that is already under way, then shows the
+     *          record; if they cannot be loaded, says the record is unavailable and does not try again.
+     */
+    private void loadGames() {
+        if (loadingGames) {
+            return;
+        }
+        loadingGames = true;
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() {
+                team.getGames();
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    get();
+                    loadingGames = false;
+                    refresh();
+                } catch (InterruptedException | ExecutionException e) {
+                    summaryLabel.setText(summaryLabel.getText() + ", record unavailable");
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Modifies: This instance of HomeScreen
+     * Effects: Initializes the buttons for adding a player, viewing player list,
+     *          accessing the games menu, accessing the training session menu, and quitting the application.
+     */
+    private void initializeComponents() {
+        addPlayerButton = new JButton("Add Player");
+        viewPlayerListButton = new JButton("View Player List");
+        gamesMenuButton = new JButton("Games Menu");
+        trainingSessionMenuButton = new JButton("Training Session Menu");
+        quitButton = new JButton("Quit");
+        summaryLabel = new JLabel("", JLabel.CENTER);
+
+        addPlayerButton.setPreferredSize(new Dimension(150, 30));
+        viewPlayerListButton.setPreferredSize(new Dimension(150, 30));
+        gamesMenuButton.setPreferredSize(new Dimension(150, 30));
+        trainingSessionMenuButton.setPreferredSize(new Dimension(150, 30));
+        quitButton.setPreferredSize(new Dimension(150, 30));
+    }
+
+    /**
+     * Modifies: This instance of HomeScreen
+     * Effects: Sets up the layout of the buttons in a vertical arrangement.
+     */
+    private void layoutComponents() {
+        setLayout(new BorderLayout());
+        add(summaryLabel, BorderLayout.NORTH);
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.setLayout(new GridLayout(5, 1, 10, 10));
+        buttonPanel.add(addPlayerButton);
+        buttonPanel.add(viewPlayerListButton);
+        buttonPanel.add(gamesMenuButton);
+        buttonPanel.add(trainingSessionMenuButton);
+        buttonPanel.add(quitButton);
+        add(buttonPanel, BorderLayout.CENTER);
+    }
+
+    /**
+     * Modifies: This instance of HomeScreen
+     * Effects: Adds action listeners to the buttons for performing various actions.
+     */
+    private void addEventListeners() {
+        addPlayerButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frame.showScreen(AppFrame.ADD_PLAYER);
+            }
+        });
+        viewPlayerListButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frame.showScreen(AppFrame.PLAYER_LIST);
+            }
+        });
+        gamesMenuButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frame.showScreen(AppFrame.GAMES);
+            }
+        });
+    }
+
+    /**
+     * Modifies: This instance of HomeScreen
+     * Effects: Adds action listeners to buttons for accessing the training session menu
+     *          and quitting the application.
+     */
+    private void addMoreEventListeners() {
+        trainingSessionMenuButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frame.showScreen(AppFrame.TRAINING);
+            }
+        });
+        quitButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                confirmSaveBeforeQuitting();
+            }
+        });
+    }
+
+    /**
+     * Effects: Displays a confirmation dialog for saving before quitting
+     *          and takes appropriate action based on user choice. Choosing not to save deletes the autosaved
+     *          changes, so the saved team file is left exactly as it was last saved; the wait for an autosave
+     *          under way happens on a background thread, not the event thread.
+     */
+    private void confirmSaveBeforeQuitting() {
+        int choice = JOptionPane.showConfirmDialog(null,
+                "Do you want to save before quitting?",
+                "Confirm Quit",
+                JOptionPane.YES_NO_CANCEL_OPTION);
+
+        if (choice == JOptionPane.YES_OPTION) {
+            saveTeamData();
+        } else if (choice == JOptionPane.NO_OPTION) {
+            new BackgroundTask<Void>(this, "Quitting...", listener -> {
+                abandonAutosave();
+                return null;
+            }, done -> System.exit(0), e -> System.exit(0)).execute();
+        }
+    }
+
+    /**
+     * Effects: Saves the team data to a JSON file on a background thread, showing progress, and exits the
+     *          application once it is saved, deleting the autosaved changes; if saving fails or is cancelled,
+     *          the application keeps running.
+     */
+    private void saveTeamData() {
+        if (team != null) {
+            jsonWriter = new JsonWriter(JSON_STORE);
+            new BackgroundTask<Void>(this, "Saving team...", listener -> {
+                jsonWriter.writeAtomically(team.snapshot(), listener);
+                abandonAutosave();
+                return null;
+            }, saved -> {
+                System.out.println("Team data saved successfully to " + JSON_STORE);
+                printLoggedEvents();
+                System.exit(0);
+            }, e -> System.out.println("Error saving team data: " + e.getMessage())).execute();
+        }
+    }
+
+    /**
+     * Modifies: autosave
+     * Effects: Starts autosaving the given team to the recovery file, replacing the autosave of any previous
+     *          team. The saved team file is only written when the user saves; the recovery file holds changes
+     *          made since, and is also written if the application exits without the quit dialog.
+     */
+    private static synchronized void startAutosave(Team team) {
+        if (team == null || (autosave != null && autosave.getTeam() == team)) {
+            return;
+        }
+        if (autosave == null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> autosave.flush(), "autosave-on-exit"));
+        } else {
+            autosave.stop();
+        }
+        autosave = new AutosaveService(team, RECOVERY_STORE, AutosaveService.DEFAULT_QUIET_MILLIS);
+        autosave.start();
+    }
+
+    /**
+     * Modifies: autosave
+     * Effects: Stops autosaving and deletes the recovery file, once any autosave under way has finished.
+     */
+    private static synchronized void abandonAutosave() {
+        if (autosave == null) {
+            return;
+        }
+        try {
+            autosave.abandon(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // EFFECTS: Method to print all logged events
+    private void printLoggedEvents() {
+        EventLog eventLog = EventLog.getInstance();
+
+        Iterator<Event> eventIterator = eventLog.iterator();
+
+        System.out.println("Logged Events:");
+        while (eventIterator.hasNext()) {
+            Event event = eventIterator.next();
+            System.out.println(event.getDescription());
+        }
+    }
+}
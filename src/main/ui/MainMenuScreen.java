@@ -0,0 +1,155 @@
+package ui;
+
+import model.Team;
+import persistence.JsonReader;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.file.NoSuchFileException;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Creates the main menu of the basketball team management application,
+ * allowing users to create a new team, load an existing team, or quit the application.
+ */
+
+public class MainMenuScreen extends Screen {
+    private static final String JSON_STORE = "./data/team.json";
+    private final AppFrame frame;
+    private JButton createNewTeamButton;
+    private JButton loadTeamButton;
+    private JButton quitButton;
+    private JsonReader jsonReader;
+
+    /**
+     * Requires: AppFrame object
+     * Modifies: This instance of MainMenuScreen
+     * Effects: Initializes the MainMenuScreen and sets up its components.
+     */
+    public MainMenuScreen(AppFrame frame) {
+        super("Basketball Team Management", 400, 400);
+        this.frame = frame;
+        initializeComponents();
+        layoutComponents();
+        addEventListeners();
+    }
+
+    /**
+     * Modifies: This instance of MainMenuScreen
+     * Effects: Initializes the buttons for creating a new team,
+     *          loading an existing team, and quitting the application.
+     */
+    private void initializeComponents() {
+        createNewTeamButton = new JButton("Create New Team");
+        loadTeamButton = new JButton("Load Existing Team");
+        quitButton = new JButton("Quit");
+
+        createNewTeamButton.setPreferredSize(new Dimension(200, 30));
+        loadTeamButton.setPreferredSize(new Dimension(200, 30));
+        quitButton.setPreferredSize(new Dimension(200, 30));
+    }
+
+    /**
+     * Modifies: This instance of MainMenuScreen
+     * Effects: Sets up the layout of the buttons in a vertical arrangement.
+     */
+    private void layoutComponents() {
+        setLayout(new BorderLayout());
+        JPanel buttonPanel = new JPanel(new GridLayout(3, 1, 10, 10)); // 3 rows, 1 column
+        buttonPanel.add(createNewTeamButton);
+        buttonPanel.add(loadTeamButton);
+        buttonPanel.add(quitButton);
+        add(buttonPanel, BorderLayout.CENTER);
+    }
+
+    /**
+     * Modifies: This instance of MainMenuScreen
+     * Effects: Adds action listeners to the buttons for performing various actions.
+     */
+    private void addEventListeners() {
+        createNewTeamButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frame.showScreen(AppFrame.CREATE_TEAM);
+            }
+        });
+
+        loadTeamButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                loadTeamData();
+            }
+        });
+
+        quitButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frame.dispose();
+            }
+        });
+    }
+
+    /**
+     * Modifies: frame
+     * Effects: Opens the home screen of the team read while the application started, if there is one and the
+     *          user does not restore autosaved changes instead; otherwise loads team data from a JSON file on a
+     *          background thread, showing progress, and opens the loaded team's home screen; if loading fails or
+     *          is cancelled, stays on this menu.
+     */
+    private void loadTeamData() {
+        String source = chooseSource();
+        Team preloaded = frame.takePreloadedTeam();
+        if (preloaded != null && source.equals(JSON_STORE)) {
+            frame.openTeam(preloaded);
+            return;
+        }
+        jsonReader = new JsonReader(source);
+        loadTeamButton.setEnabled(false);
+        new BackgroundTask<Team>(this, "Loading team...", listener -> jsonReader.readTeam(listener),
+                team -> {
+                    loadTeamButton.setEnabled(true);
+                    frame.openTeam(team);
+                }, this::loadFailed).execute();
+    }
+
+    /**
+     * Effects: Returns the file to load the team from: the autosaved changes left by an earlier session that
+     *          quit without saving, if there are any and the user chooses to restore them, otherwise the saved
+     *          team. Autosaved changes the user declines are deleted.
+     */
+    private String chooseSource() {
+        File recovery = new File(HomeScreen.RECOVERY_STORE);
+        if (!recovery.isFile()) {
+            return JSON_STORE;
+        }
+        int choice = JOptionPane.showConfirmDialog(this,
+                "Unsaved changes from an earlier session were found. Restore them?",
+                "Restore Unsaved Changes", JOptionPane.YES_NO_OPTION);
+        if (choice == JOptionPane.YES_OPTION) {
+            return HomeScreen.RECOVERY_STORE;
+        }
+        if (!recovery.delete()) {
+            System.out.println("Could not delete " + HomeScreen.RECOVERY_STORE);
+        }
+        return JSON_STORE;
+    }
+
+    /**
+     * Effects: Tells the user why the team could not be loaded: it was cancelled, there is no saved team, or
+     *          the saved team could not be read or understood.
+     */
+    private void loadFailed(Exception e) {
+        loadTeamButton.setEnabled(true);
+        if (e instanceof CancellationException) {
+            System.out.println("Loading cancelled.");
+        } else if (e instanceof NoSuchFileException || e instanceof FileNotFoundException) {
+            System.out.println("Team data file not found. Please create a new team.");
+        } else {
+            System.out.println("Could not load the team: " + e.getMessage());
+        }
+    }
+}
@@ -4,36 +4,40 @@ import model.Player;
 import model.Team;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.ArrayList;
 
 /**
- * Creates a window for viewing the list of players in a team. Provides options to view individual player stats
- * and navigate back to the home window.
+ * Creates a screen for viewing the list of players in a team. Provides options to view individual player stats
+ * and navigate back to the home screen.
  */
-public class ViewPlayerListWindow extends JFrame {
+public class PlayerListScreen extends Screen {
+    private final AppFrame frame;
     private Team team;
     private JTextArea playerListArea;
     private JButton viewStatsButton;
     private JButton backButton;
     private JScrollPane scrollPane;
+    private PlayerTableModel playerTableModel;
+    private JTable playerTable;
 
-    public ViewPlayerListWindow(Team team) {
+    public PlayerListScreen(AppFrame frame, Team team) {
+        super("View Player List", 400, 200);
+        this.frame = frame;
         this.team = team;
 
-        setTitle("View Player List");
-        setSize(400, 200);
-        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
-        setLocationRelativeTo(null);
-
         initializeComponents();
         layoutComponents();
         addEventListeners();
+    }
 
-        setVisible(true);
+    // Modifies: This instance of PlayerListScreen
+    // Effects: Catches the table up with the roster and clears the selection left from the last visit
+    @Override
+    public void refresh() {
+        playerTableModel.reload();
+        playerTable.clearSelection();
     }
 
     // Modifies: playerListArea, scrollPane
@@ -51,16 +55,8 @@ public class ViewPlayerListWindow extends JFrame {
     // Effects: Sets up the layout of the player list table and buttons
     private void layoutComponents() {
         setLayout(new BorderLayout());
-        DefaultTableModel model = new DefaultTableModel();
-        model.addColumn("Name");
-        model.addColumn("Position");
-        model.addColumn("Jersey No.");
-        ArrayList<Player> players = team.getPlayers();
-        for (Player player : players) {
-            model.addRow(new Object[]{player.getName(), player.getPosition(), player.getJerseyNumber()});
-        }
-
-        JTable playerTable = new JTable(model);
+        playerTableModel = new PlayerTableModel(team);
+        playerTable = new JTable(playerTableModel);
         playerTable.setFillsViewportHeight(true);
         JScrollPane scrollPane = new JScrollPane(playerTable);
 
@@ -82,14 +78,26 @@ public class ViewPlayerListWindow extends JFrame {
         backButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                dispose();
-                new HomeWindow(team);
+                frame.showScreen(AppFrame.HOME);
             }
         });
     }
 
-    // Effects: Responds to the viewStatsButton click event by displaying player stats dialog
+    // Modifies: team
+    // Effects: Stops the player table from following the roster
+    @Override
+    public void release() {
+        playerTableModel.detach();
+    }
+
+    // Effects: Responds to the viewStatsButton click event by displaying the stats of the selected player,
+    //          or of the player with the jersey number the user enters if no row is selected
     private void viewPlayerStats() {
+        int row = playerTable.getSelectedRow();
+        if (row >= 0) {
+            displayPlayerStats(playerTableModel.getPlayerAt(playerTable.convertRowIndexToModel(row)));
+            return;
+        }
         String input = JOptionPane.showInputDialog(this, "Enter player jersey number to view stats:");
         if (input != null && !input.isEmpty()) {
             int jerseyNumber = Integer.parseInt(input);
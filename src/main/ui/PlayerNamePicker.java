@@ -0,0 +1,84 @@
+package ui;
+
+import model.Player;
+import model.Team;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+
+/**
+ * Represents a name field with typeahead: as the user types, the list below it shows the team's players whose
+ * names best match the text, so a player can be picked even when the name is misspelt.
+ */
+public class PlayerNamePicker extends JPanel {
+    private static final int SUGGESTIONS = 8;
+    private final Team team;
+    private final JTextField nameField;
+    private final DefaultListModel<String> suggestions;
+    private final JList<String> suggestionList;
+
+    /**
+     * Requires: Team object
+     * Modifies: This instance of PlayerNamePicker
+     * Effects: Initializes an empty name field with an empty suggestion list.
+     */
+    public PlayerNamePicker(Team team) {
+        super(new BorderLayout());
+        this.team = team;
+        this.nameField = new JTextField(20);
+        this.suggestions = new DefaultListModel<>();
+        this.suggestionList = new JList<>(suggestions);
+        suggestionList.setVisibleRowCount(SUGGESTIONS);
+        suggestionList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        add(nameField, BorderLayout.NORTH);
+        add(new JScrollPane(suggestionList), BorderLayout.CENTER);
+        nameField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                refreshSuggestions();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                refreshSuggestions();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                refreshSuggestions();
+            }
+        });
+    }
+
+    /**
+     * Effects: Returns the player picked from the suggestions, or else the player whose name is exactly the typed
+     *          text (ignoring case), or null if there is no such player.
+     */
+    public Player getSelectedPlayer() {
+        String picked = suggestionList.getSelectedValue();
+        return team.findPlayerByName(picked != null ? picked : nameField.getText());
+    }
+
+    /**
+     * Effects: Returns the text typed into the name field.
+     */
+    public String getTypedName() {
+        return nameField.getText();
+    }
+
+    /**
+     * Modifies: This instance of PlayerNamePicker
+     * Effects: Replaces the suggestions with the best matches for the typed text, preselecting the first one.
+     */
+    private void refreshSuggestions() {
+        suggestions.clear();
+        for (Player player : team.suggestPlayers(nameField.getText(), SUGGESTIONS)) {
+            suggestions.addElement(player.getName());
+        }
+        if (!suggestions.isEmpty()) {
+            suggestionList.setSelectedIndex(0);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package ui;
+
+import model.Player;
+import model.RosterObserver;
+import model.Team;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.List;
+
+/**
+ * A table model that shows a team's roster without copying it. Rows are read on demand from the team's current
+ * read-only roster snapshot, so only the rows the table actually paints are ever looked at, and the model stays
+ * current by listening to the team: a player joining fires an insert for its row and a modified player fires an
+ * update for its row only. Events are always fired on the Swing event thread.
+ */
+public class PlayerTableModel extends AbstractTableModel implements RosterObserver {
+    private static final String[] COLUMNS = {"Name", "Position", "Jersey No."};
+    private final Team team;
+    private List<Player> rows;
+
+    /**
+     * Requires: Team object
+     * Modifies: This instance of PlayerTableModel, team
+     * Effects: Shows the team's current roster and starts listening for changes to it.
+     */
+    public PlayerTableModel(Team team) {
+        this.team = team;
+        this.rows = team.getPlayers();
+        team.addRosterObserver(this);
+    }
+
+    /**
+     * Modifies: team
+     * Effects: Stops listening for changes to the roster.
+     */
+    public void detach() {
+        team.removeRosterObserver(this);
+    }
+
+    /**
+     * Modifies: This instance of PlayerTableModel
+     * Effects: Switches to the team's current roster snapshot if it differs from the one shown, so the table is up
+     *          to date even if a change is still waiting on the event queue.
+     */
+    public void reload() {
+        List<Player> latest = team.getPlayers();
+        if (latest != rows) {
+            rows = latest;
+            fireTableDataChanged();
+        }
+    }
+
+    /**
+     * Effects: Returns the player shown in row.
+     */
+    public Player getPlayerAt(int row) {
+        return rows.get(row);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == 2 ? Integer.class : String.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Player player = rows.get(row);
+        switch (column) {
+            case 0:
+                return player.getName();
+            case 1:
+                return player.position().name();
+            default:
+                return player.jerseyNumber();
+        }
+    }
+
+    /**
+     * Modifies: This instance of PlayerTableModel
+     * Effects: Shows the rows added since the last event, on the Swing event thread.
+     */
+    @Override
+    public void playerAdded(Team team, Player player, int index) {
+        onEventThread(() -> {
+            int oldCount = rows.size();
+            rows = team.getPlayers();
+            if (rows.size() > oldCount) {
+                fireTableRowsInserted(oldCount, rows.size() - 1);
+            }
+        });
+    }
+
+    /**
+     * Effects: Repaints the row of the modified player, on the Swing event thread.
+     */
+    @Override
+    public void playerChanged(Team team, Player player, int index) {
+        onEventThread(() -> {
+            if (index < rows.size()) {
+                fireTableRowsUpdated(index, index);
+            }
+        });
+    }
+
+    /**
+     * Effects: Runs action now if this is the Swing event thread, otherwise queues it to run there.
+     */
+    private static void onEventThread(Runnable action) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            action.run();
+        } else {
+            SwingUtilities.invokeLater(action);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package ui;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+/**
+ * Represents a dialog that shows a schedule as a table one page at a time. Typing in the filter field keeps only
+ * matching rows, clicking a column header sorts by that column (clicking again reverses it), and the Previous
+ * and Next buttons move between pages.
+ */
+public class ScheduleDialog extends JDialog {
+    private final ScheduleTableModel<?> model;
+    private final JLabel pageLabel;
+
+    /**
+     * Requires: model is not null
+     * Modifies: This instance of ScheduleDialog
+     * Effects: Builds a modal dialog with the given title showing model, then shows it until the user closes it.
+     */
+    public ScheduleDialog(Component parent, String title, ScheduleTableModel<?> model) {
+        super(SwingUtilities.getWindowAncestor(parent), title, ModalityType.APPLICATION_MODAL);
+        this.model = model;
+        this.pageLabel = new JLabel();
+        JTable table = new JTable(model);
+        table.setFillsViewportHeight(true);
+        table.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int column = table.columnAtPoint(e.getPoint());
+                if (column >= 0) {
+                    model.sortBy(table.convertColumnIndexToModel(column));
+                    updatePageLabel();
+                }
+            }
+        });
+        setLayout(new BorderLayout());
+        add(createFilterPanel(), BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(createPagePanel(), BorderLayout.SOUTH);
+        updatePageLabel();
+        setSize(700, 500);
+        setLocationRelativeTo(parent);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setVisible(true);
+    }
+
+    /**
+     * Effects: Returns a panel with a filter field that refilters the table as the user types.
+     */
+    private JPanel createFilterPanel() {
+        JTextField filterField = new JTextField(20);
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                applyFilter(filterField.getText());
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                applyFilter(filterField.getText());
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                applyFilter(filterField.getText());
+            }
+        });
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        panel.add(new JLabel("Filter:"));
+        panel.add(filterField);
+        return panel;
+    }
+
+    /**
+     * Effects: Returns a panel with the Previous and Next buttons and the page label.
+     */
+    private JPanel createPagePanel() {
+        JButton previousButton = new JButton("Previous");
+        JButton nextButton = new JButton("Next");
+        previousButton.addActionListener(e -> showPage(model.getPage() - 1));
+        nextButton.addActionListener(e -> showPage(model.getPage() + 1));
+        JPanel panel = new JPanel();
+        panel.add(previousButton);
+        panel.add(pageLabel);
+        panel.add(nextButton);
+        return panel;
+    }
+
+    /**
+     * Modifies: model
+     * Effects: Keeps only the rows matching text and shows the first page of them.
+     */
+    private void applyFilter(String text) {
+        model.setFilter(text);
+        updatePageLabel();
+    }
+
+    /**
+     * Modifies: model
+     * Effects: Shows the given page.
+     */
+    private void showPage(int page) {
+        model.setPage(page);
+        updatePageLabel();
+    }
+
+    /**
+     * Modifies: This instance of ScheduleDialog
+     * Effects: Shows the current page number and the number of matching rows.
+     */
+    private void updatePageLabel() {
+        pageLabel.setText("Page " + (model.getPage() + 1) + " of " + model.getPageCount()
+                + " (" + model.getMatchCount() + " rows)");
+    }
+}
@@ -0,0 +1,214 @@
+package ui;
+
+import model.Game;
+import model.TrainingSession;
+
+import javax.swing.table.AbstractTableModel;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A table model that shows one page of a schedule (games or training sessions) at a time. Only the rows of the
+ * current page are ever rendered. Until the schedule is sorted or filtered the rows are read straight from the
+ * schedule in its own order, so opening even a multi-season schedule costs nothing; sorting or filtering builds an
+ * array of row positions that the pages are then read through. The first column always holds a row's 1-based
+ * position in the schedule, so a row can still be referred to by number after sorting.
+ */
+public class ScheduleTableModel<T> extends AbstractTableModel {
+    public static final int PAGE_SIZE = 50;
+    private final List<T> schedule;
+    private final String[] columns;
+    private final List<Function<T, Object>> values;
+    private int[] view;
+    private String filter = "";
+    private int sortColumn = -1;
+    private boolean ascending = true;
+    private int page;
+
+    /**
+     * Requires: columns and values have the same length; every value is Comparable or null
+     * Modifies: This instance of ScheduleTableModel
+     * Effects: Shows schedule, in its own order, with a "#" column followed by the given columns, whose cells are
+     *          computed by the matching function in values.
+     */
+    public ScheduleTableModel(List<T> schedule, String[] columns, List<Function<T, Object>> values) {
+        this.schedule = schedule;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Effects: Returns a model showing the date, opponent, venue, scores and result of each game.
+     */
+    public static ScheduleTableModel<Game> forGames(List<Game> games) {
+        return new ScheduleTableModel<>(games,
+                new String[] {"Date", "Opponent", "Venue", "Home Score", "Opponent Score", "Result"},
+                List.of(game -> dayOf(game.getDate()), Game::getOpponentName, Game::getVenue, Game::getHomeScore,
+                        Game::getOpponentScore, ScheduleTableModel::resultOf));
+    }
+
+    /**
+     * Effects: Returns a model showing the date, venue, duration, attendance and completion of each session.
+     */
+    public static ScheduleTableModel<TrainingSession> forTrainingSessions(List<TrainingSession> sessions) {
+        return new ScheduleTableModel<>(sessions,
+                new String[] {"Date", "Venue", "Duration (minutes)", "Attendees", "Completed"},
+                List.of(session -> dayOf(session.getDate()), TrainingSession::getVenue,
+                        TrainingSession::getDurationInMinutes, session -> session.getAttendees().size(),
+                        session -> session.isCompleted() ? "Yes" : "No"));
+    }
+
+    /**
+     * Effects: Returns the calendar day of date in the default time zone, which prints as YYYY-MM-DD.
+     */
+    private static LocalDate dayOf(Date date) {
+        return date == null ? null : date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Effects: Returns "Win" or "Loss" for a game with a result, or an empty string for one still to be played.
+     */
+    private static String resultOf(Game game) {
+        if (game.getIsWin()) {
+            return "Win";
+        }
+        return game.getHomeScore() != 0 || game.getOpponentScore() != 0 ? "Loss" : "";
+    }
+
+    @Override
+    public int getRowCount() {
+        return Math.max(0, Math.min(PAGE_SIZE, getMatchCount() - page * PAGE_SIZE));
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length + 1;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return column == 0 ? "#" : columns[column - 1];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int position = positionOf(page * PAGE_SIZE + row);
+        return column == 0 ? position + 1 : values.get(column - 1).apply(schedule.get(position));
+    }
+
+    /**
+     * Effects: Returns the number of schedule rows that pass the filter.
+     */
+    public int getMatchCount() {
+        return view == null ? schedule.size() : view.length;
+    }
+
+    /**
+     * Effects: Returns the 0-based current page.
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Effects: Returns the number of pages, at least 1.
+     */
+    public int getPageCount() {
+        return Math.max(1, (getMatchCount() + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    /**
+     * Modifies: This instance of ScheduleTableModel
+     * Effects: Shows the given page, clamped to the pages that exist.
+     */
+    public void setPage(int page) {
+        this.page = Math.max(0, Math.min(page, getPageCount() - 1));
+        fireTableDataChanged();
+    }
+
+    /**
+     * Modifies: This instance of ScheduleTableModel
+     * Effects: Keeps only rows with a cell containing text (ignoring case), in the current order, and goes back
+     *          to the first page.
+     */
+    public void setFilter(String text) {
+        this.filter = text.trim().toLowerCase(Locale.ROOT);
+        rebuildView();
+    }
+
+    /**
+     * Modifies: This instance of ScheduleTableModel
+     * Effects: Sorts by column, reversing the order if it is already sorted by column, and goes back to the
+     *          first page; sorting by "#" restores the schedule's own order.
+     */
+    public void sortBy(int column) {
+        ascending = column != sortColumn || !ascending;
+        sortColumn = column;
+        rebuildView();
+    }
+
+    /**
+     * Effects: Returns the schedule position of the index-th row that passes the filter, in the current order.
+     */
+    private int positionOf(int index) {
+        return view == null ? index : view[index];
+    }
+
+    /**
+     * Modifies: This instance of ScheduleTableModel
+     * Effects: Recomputes the filtered and sorted row positions, or drops them if the schedule's own order and
+     *          every row are shown.
+     */
+    private void rebuildView() {
+        view = filter.isEmpty() && sortColumn <= 0 && ascending ? null : sortedMatches();
+        page = 0;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Effects: Returns the positions of the rows that pass the filter, in the current order.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int[] sortedMatches() {
+        List<Integer> positions = new ArrayList<>();
+        int position = 0;
+        for (T item : schedule) {
+            if (matches(item)) {
+                positions.add(position);
+            }
+            position++;
+        }
+        if (sortColumn > 0) {
+            Function<T, Object> value = values.get(sortColumn - 1);
+            positions.sort(Comparator.comparing(i -> (Comparable) value.apply(schedule.get(i)),
+                    Comparator.nullsFirst(Comparator.naturalOrder())));
+        }
+        if (!ascending) {
+            Collections.reverse(positions);
+        }
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Effects: Returns true if no filter is set or one of item's cells contains the filter text.
+     */
+    private boolean matches(T item) {
+        if (filter.isEmpty()) {
+            return true;
+        }
+        for (Function<T, Object> value : values) {
+            Object cell = value.apply(item);
+            if (cell != null && cell.toString().toLowerCase(Locale.ROOT).contains(filter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
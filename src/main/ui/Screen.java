@@ -0,0 +1,46 @@
+package ui;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Represents one screen of the application frame. A screen is built the first time it is shown and then kept, so
+ * going back to it only swaps it in again; refresh is called every time it is shown so that it can bring what it
+ * displays up to date with the team.
+ */
+public abstract class Screen extends JPanel {
+    private final String title;
+    private final Dimension frameSize;
+
+    /**
+     * Modifies: This instance of Screen
+     * Effects: Initializes a screen shown with the given frame title in a frame of the given size.
+     */
+    protected Screen(String title, int width, int height) {
+        this.title = title;
+        this.frameSize = new Dimension(width, height);
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Dimension getFrameSize() {
+        return frameSize;
+    }
+
+    /**
+     * Modifies: This instance of Screen
+     * Effects: Brings the screen up to date just before it is shown; does nothing unless overridden.
+     */
+    public void refresh() {
+    }
+
+    /**
+     * Modifies: This instance of Screen
+     * Effects: Lets go of anything the screen holds on to (such as team observers) when the screen is thrown
+     *          away; does nothing unless overridden.
+     */
+    public void release() {
+    }
+}
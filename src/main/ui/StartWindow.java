@@ -1,86 +1,191 @@
 package ui;
 
+import model.Team;
+import persistence.JsonReader;
+
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
 
 /**
- * Represents the start window of the basketball team management application,
- * displaying an image while loading the application and transitioning to the main window after a set time.
+ * Represents the start window of the basketball team management application. It appears at once and does the
+ * startup work while it is up: the picture is decoded and scaled on a background thread (and the scaled copy is
+ * kept on disk, so later starts only read a small file), and the last saved team is read from its JSON file on
+ * another. The main menu opens as soon as the team has been read, with the team ready to be opened from it.
  */
 public class StartWindow extends JFrame {
-    private ImageIcon imageIcon;
-    private Timer timer;
+    private static final String JSON_STORE = "./data/team.json";
+    private static final File IMAGE = new File("images/basketball.jpg");
+    private static final File CACHE_DIRECTORY = new File("data/cache");
+    private static final int IMAGE_SIZE = 400;
+    private JLabel imageLabel;
+    private JLabel loadingLabel;
 
     /**
      * Modifies: This instance of StartWindow
-     * Effects: Initializes the StartWindow and sets up its components.
+     * Effects: Shows the StartWindow and starts loading the picture and the last saved team.
      */
-    public StartWindow() throws IOException {
+    public StartWindow() {
         setTitle("Image Display");
-        setSize(400, 400);
+        setSize(IMAGE_SIZE, IMAGE_SIZE);
         setDefaultCloseOperation(EXIT_ON_CLOSE);
         setLocationRelativeTo(null);
-        initializeComponents();
         addComponents();
         setVisible(true);
+        loadImage();
+        preloadTeam();
     }
 
     /**
      * Modifies: This instance of StartWindow
-     * Effects: Loads the image and resizes it to fit the window.
-     */
-    private void initializeComponents() throws IOException {
-        int resizedWidth = 400;
-        int resizedHeight = 400;
-        Image originalImage = ImageIO.read(new File("images/basketball.jpg"));
-        Image resizedImage = originalImage.getScaledInstance(resizedWidth, resizedHeight, Image.SCALE_SMOOTH);
-        imageIcon = new ImageIcon(resizedImage);
-    }
-
-    /**
-     * Modifies: This instance of StartWindow
-     * Effects: Adds the image label and loading label, starts the timer.
+     * Effects: Adds the (still empty) image label and the loading label.
      */
     private void addComponents() {
-        JLabel imageLabel = new JLabel(imageIcon, JLabel.CENTER);
+        imageLabel = new JLabel("", JLabel.CENTER);
+        imageLabel.setBackground(Color.BLACK);
+        imageLabel.setOpaque(true);
         add(imageLabel, BorderLayout.CENTER);
 
-        JLabel loadingLabel = new JLabel("Loading...", JLabel.CENTER);
+        loadingLabel = new JLabel("Loading...", JLabel.CENTER);
         loadingLabel.setForeground(Color.WHITE); // Set text color to white
         loadingLabel.setBackground(Color.BLACK); // Set background color to black
         loadingLabel.setOpaque(true); // Make the background opaque
         add(loadingLabel, BorderLayout.SOUTH);
+    }
 
-        timer = new Timer(5000, new ActionListener() {
+    /**
+     * Modifies: This instance of StartWindow
+     * Effects: Reads the scaled picture on a background thread and shows it once it is ready; the window simply
+     *          stays without a picture if it cannot be read.
+     */
+    private void loadImage() {
+        new SwingWorker<BufferedImage, Void>() {
             @Override
-            public void actionPerformed(ActionEvent e) {
-                dispose();
-                showMainWindow();
-                timer.stop();
+            protected BufferedImage doInBackground() throws IOException {
+                return readScaledImage();
             }
-        });
-        timer.start();
+
+            @Override
+            protected void done() {
+                try {
+                    imageLabel.setIcon(new ImageIcon(get()));
+                } catch (ExecutionException e) {
+                    System.out.println("Could not load start image: " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
     }
 
     /**
-     * Effects: Disposes the StartWindow and shows the MainWindow.
+     * Effects: Returns the picture scaled to the window, read from the on-disk cache if it is newer than the
+     *          picture, otherwise decoded and scaled from the picture and then written to the cache.
      */
-    private void showMainWindow() {
-        SwingUtilities.invokeLater(new Runnable() {
+    private static BufferedImage readScaledImage() throws IOException {
+        File cached = new File(CACHE_DIRECTORY, "basketball-" + IMAGE_SIZE + "x" + IMAGE_SIZE + ".png");
+        if (cached.lastModified() > IMAGE.lastModified()) {
+            BufferedImage image = ImageIO.read(cached);
+            if (image != null) {
+                return image;
+            }
+        }
+        BufferedImage original = ImageIO.read(IMAGE);
+        if (original == null) {
+            throw new IOException("Unreadable image " + IMAGE);
+        }
+        BufferedImage scaled = scale(original, IMAGE_SIZE, IMAGE_SIZE);
+        writeCache(scaled, cached);
+        return scaled;
+    }
+
+    /**
+     * Effects: Returns image scaled to width x height, halving it in steps while it is more than twice as large so
+     *          that the result is as smooth as an area-averaged scale.
+     */
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage current = image;
+        do {
+            int stepWidth = Math.max(width, current.getWidth() / 2);
+            int stepHeight = Math.max(height, current.getHeight() / 2);
+            BufferedImage step = new BufferedImage(stepWidth, stepHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, stepWidth, stepHeight, null);
+            graphics.dispose();
+            current = step;
+        } while (current.getWidth() != width || current.getHeight() != height);
+        return current;
+    }
+
+    /**
+     * Effects: Writes image to file as a PNG through a temporary file, so a half-written cache is never read; a
+     *          failure only means the image is scaled again next time.
+     */
+    private static void writeCache(BufferedImage image, File file) {
+        File temp = new File(file.getPath() + ".tmp");
+        try {
+            Files.createDirectories(CACHE_DIRECTORY.toPath());
+            ImageIO.write(image, "png", temp);
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            temp.delete();
+            System.out.println("Could not cache start image: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Modifies: This instance of StartWindow
+     * Effects: Reads the last saved team, if there is one, on a background thread, showing how far it has got,
+     *          then opens the main menu.
+     */
+    private void preloadTeam() {
+        SwingWorker<Team, Void> preload = new SwingWorker<Team, Void>() {
             @Override
-            public void run() {
-                try {
-                    new MainWindow();
-                } catch (IOException e) {
-                    e.printStackTrace();
+            protected Team doInBackground() throws IOException {
+                if (!new File(JSON_STORE).isFile()) {
+                    return null;
                 }
+                return new JsonReader(JSON_STORE).readTeam(
+                        (done, total) -> setProgress(total > 0 ? Math.min(100, (int) (100L * done / total)) : 0));
+            }
+
+            @Override
+            protected void done() {
+                showMainMenu(this);
+            }
+        };
+        preload.addPropertyChangeListener(event -> {
+            if ("progress".equals(event.getPropertyName())) {
+                loadingLabel.setText("Loading team... " + event.getNewValue() + "%");
             }
         });
+        preload.execute();
+    }
+
+    /**
+     * Effects: Closes the StartWindow and opens the application frame at the main menu, offering it the team
+     *          read by preload if it was read successfully.
+     */
+    private void showMainMenu(SwingWorker<Team, Void> preload) {
+        AppFrame frame = new AppFrame();
+        try {
+            frame.offerPreloadedTeam(preload.get());
+        } catch (ExecutionException e) {
+            System.out.println("Could not preload team: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispose();
+        frame.showScreen(AppFrame.MAIN_MENU);
     }
 
     /**
@@ -90,11 +195,7 @@ public class StartWindow extends JFrame {
         SwingUtilities.invokeLater(new Runnable() {
             @Override
             public void run() {
-                try {
-                    new StartWindow();
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+                new StartWindow();
             }
         });
     }
@@ -0,0 +1,338 @@
+package ui;
+
+import model.Player;
+import model.Team;
+import model.TrainingScheduler;
+import model.TrainingSession;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Represents the screen for managing training sessions, allowing the user to start a new training session,
+ * view the schedule of training sessions, and navigate back to the home screen.
+ */
+public class TrainingSessionScreen extends Screen {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int MAX_DAYS = 28;
+    private final AppFrame frame;
+    private Team team;
+    private JButton startTrainingButton;
+    private JButton viewScheduleButton;
+    private JButton planButton;
+    private JButton backButton;
+
+    /**
+     * Requires: AppFrame and Team objects
+     * Modifies: This instance of TrainingSessionScreen
+     * Effects: Initializes the TrainingSessionScreen and sets up its components.
+     */
+    public TrainingSessionScreen(AppFrame frame, Team team) {
+        super("Training Session Menu", 400, 250);
+        this.frame = frame;
+        this.team = team;
+
+        initializeComponents();
+        layoutComponents();
+        addEventListeners();
+    }
+
+    /**
+     * Modifies: This instance of TrainingSessionScreen
+     * Effects: Initializes the buttons.
+     */
+    private void initializeComponents() {
+        startTrainingButton = new JButton("New Training Session");
+        viewScheduleButton = new JButton("View Training Session Schedule");
+        planButton = new JButton("Plan Training Sessions");
+        backButton = new JButton("Back to Home");
+    }
+
+    /**
+     * Modifies: This instance of TrainingSessionScreen
+     * Effects: Sets up the grid layout and adds components to the panel.
+     */
+    private void layoutComponents() {
+        setLayout(new GridLayout(4, 1));
+        add(startTrainingButton);
+        add(viewScheduleButton);
+        add(planButton);
+        add(backButton);
+    }
+
+    /**
+     * Modifies: This instance of TrainingSessionScreen
+     * Effects: Adds ActionListeners to the buttons.
+     */
+    private void addEventListeners() {
+        startTrainingButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                createNewTrainingSession();
+            }
+        });
+
+        viewScheduleButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                viewTrainingSessions();
+            }
+        });
+
+        planButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                planTrainingSessions();
+            }
+        });
+
+        backButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                frame.showScreen(AppFrame.HOME);
+            }
+        });
+    }
+
+    /**
+     * Effects: Creates a new TrainingSession object with the provided details.
+     */
+    private TrainingSession getTrainingSessionDetails() {
+        JTextField dateField = new JTextField();
+        JTextField venueField = new JTextField();
+        JTextField durationField = new JTextField();
+        JPanel panel = new JPanel(new GridLayout(0, 2));
+        panel.add(new JLabel("Date (YYYY-MM-DD):"));
+        panel.add(dateField);
+        panel.add(new JLabel("Venue:"));
+        panel.add(venueField);
+        panel.add(new JLabel("Duration (minutes):"));
+        panel.add(durationField);
+        int result = JOptionPane.showConfirmDialog(null, panel, "Start Training Session", JOptionPane.OK_CANCEL_OPTION);
+        if (result == JOptionPane.OK_OPTION) {
+            String dateString = dateField.getText();
+            String venue = venueField.getText();
+            int durationInMinutes = Integer.parseInt(durationField.getText());
+            try {
+                Date date = new SimpleDateFormat("yyyy-MM-dd").parse(dateString);
+                return new TrainingSession(date, venue, durationInMinutes);
+            } catch (ParseException ex) {
+                JOptionPane.showMessageDialog(null, "Invalid date format.");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Modifies: This instance of TrainingSessionScreen, Team object
+     * Effects: Adds a new training session to the team and displays a confirmation message.
+     */
+    private void createNewTrainingSession() {
+        TrainingSession trainingSession = getTrainingSessionDetails();
+        if (trainingSession != null) {
+            team.addTrainingSession(trainingSession);
+            JOptionPane.showMessageDialog(null, "Training session created successfully:\n"
+                    + "Date: " + trainingSession.getDate() + "\n"
+                    + "Venue: " + trainingSession.getVenue() + "\n"
+                    + "Duration: " + trainingSession.getDurationInMinutes() + " minutes");
+        }
+    }
+
+    /**
+     * Modifies: Team object
+     * Effects: Asks for a date range and constraints, then adds the training sessions a TrainingScheduler
+     *          proposes and reports how many were added.
+     */
+    private void planTrainingSessions() {
+        JTextField fromField = new JTextField();
+        JTextField toField = new JTextField();
+        JTextField venuesField = new JTextField();
+        JTextField durationField = new JTextField("90");
+        JTextField restField = new JTextField("1");
+        JTextField spacingField = new JTextField("1");
+        JTextField perWeekField = new JTextField("3");
+        JPanel panel = new JPanel(new GridLayout(0, 2));
+        addField(panel, "From (YYYY-MM-DD):", fromField);
+        addField(panel, "To (YYYY-MM-DD):", toField);
+        addField(panel, "Venues (comma-separated):", venuesField);
+        addField(panel, "Duration (minutes):", durationField);
+        addField(panel, "Rest days after a game:", restField);
+        addField(panel, "Days between sessions:", spacingField);
+        addField(panel, "Sessions per week:", perWeekField);
+        int result = JOptionPane.showConfirmDialog(null, panel, "Plan Training Sessions", JOptionPane.OK_CANCEL_OPTION);
+        if (result == JOptionPane.OK_OPTION) {
+            schedulePlan(fromField.getText(), toField.getText(), venuesField.getText(), durationField.getText(),
+                    restField.getText(), spacingField.getText(), perWeekField.getText());
+        }
+    }
+
+    /**
+     * Modifies: Team object
+     * Effects: Parses the planning inputs and adds the sessions a TrainingScheduler proposes for them,
+     *          or shows an error message naming the first date or number that is invalid or out of range.
+     */
+    private void schedulePlan(String from, String to, String venues, String duration, String rest, String spacing,
+                              String perWeek) {
+        try {
+            SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+            format.setLenient(false);
+            Date first = format.parse(from.trim());
+            Date last = format.parse(to.trim());
+            int minutes = numberInRange("Duration", duration, 1, MINUTES_PER_DAY);
+            int restDays = numberInRange("Rest days after a game", rest, 0, MAX_DAYS);
+            int daysApart = numberInRange("Days between sessions", spacing, 1, MAX_DAYS);
+            int sessions = numberInRange("Sessions per week", perWeek, 1, DAYS_PER_WEEK);
+            TrainingScheduler scheduler = new TrainingScheduler(restDays, daysApart, sessions, sessions * minutes);
+            List<TrainingSession> plan = scheduler.schedule(team, first, last, venuesOf(venues), List.of(minutes));
+            JOptionPane.showMessageDialog(null, plan.size() + " training sessions added.");
+        } catch (ParseException ex) {
+            JOptionPane.showMessageDialog(null, "Invalid date. Please use YYYY-MM-DD and try again.");
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(null, ex.getMessage());
+        }
+    }
+
+    /**
+     * Effects: Returns text as a whole number; throws IllegalArgumentException naming the field if it is not a
+     *          whole number from min to max.
+     */
+    private static int numberInRange(String name, String text, int min, int max) {
+        String message = name + " must be a whole number from " + min + " to " + max + ".";
+        int value;
+        try {
+            value = Integer.parseInt(text.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(message, ex);
+        }
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(message);
+        }
+        return value;
+    }
+
+    /**
+     * Modifies: panel
+     * Effects: Adds a labelled text field to panel.
+     */
+    private static void addField(JPanel panel, String label, JTextField field) {
+        panel.add(new JLabel(label));
+        panel.add(field);
+    }
+
+    /**
+     * Effects: Returns the non-blank, comma-separated venue names in text, or a single default venue if none.
+     */
+    private static List<String> venuesOf(String text) {
+        List<String> venues = new ArrayList<>();
+        for (String venue : text.split(",")) {
+            if (!venue.isBlank()) {
+                venues.add(venue.trim());
+            }
+        }
+        return venues.isEmpty() ? List.of("Training Facility") : venues;
+    }
+
+    /**
+     * Effects: Shows the list of existing training sessions or a message if none exist.
+     */
+    private void viewTrainingSessions() {
+        if (team == null) {
+            JOptionPane.showMessageDialog(null, "No team created yet. Please create a team first.");
+            return;
+        }
+
+        List<TrainingSession> trainingSessions = team.getTrainingSessions();
+        if (trainingSessions.isEmpty()) {
+            JOptionPane.showMessageDialog(null, "No training sessions scheduled yet.");
+        } else {
+            displayTrainingSessions(trainingSessions);
+            offerUpdateOptions(trainingSessions);
+        }
+    }
+
+    /**
+     * Effects: Shows all training sessions in a paged, sortable and filterable table, numbered as they are for
+     *          updating.
+     */
+    private void displayTrainingSessions(List<TrainingSession> trainingSessions) {
+        new ScheduleDialog(this, "Training Sessions", ScheduleTableModel.forTrainingSessions(trainingSessions));
+    }
+
+    // Effects: Displays a dialog box to offer options for updating a training session
+    //          If the user selects "Update", prompts for the session number to update
+    //          If a valid session number is entered, calls updateTrainingSession() with the selected session
+    //          If the user selects "Go Back", returns without making any changes
+    private void offerUpdateOptions(List<TrainingSession> trainingSessions) {
+        String[] options = {"Update", "Go Back"};
+        int choice = JOptionPane.showOptionDialog(null, "Select an option:", "Update Training Session",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, options, options[0]);
+        if (choice == 0) {
+            String sessionNumber = JOptionPane.showInputDialog("Enter session number to update:");
+            if (sessionNumber != null && !sessionNumber.isEmpty()) {
+                int index = Integer.parseInt(sessionNumber) - 1;
+                if (index >= 0 && index < trainingSessions.size()) {
+                    updateTrainingSession(trainingSessions.get(index));
+                } else {
+                    JOptionPane.showMessageDialog(null, "Invalid session number. Please try again.");
+                    offerUpdateOptions(trainingSessions);
+                }
+            }
+        }
+    }
+
+    // Modifies: trainingSession.completion status
+    // Effects: Displays a dialog box to select an option for updating a training session
+    //          If "Mark as Completed" is selected, marks the training session as completed
+    //          If "Add Attendee" is selected, prompts to add an attendee to the training session
+    //          If "Back" is selected, returns to the previous menu
+    private void updateTrainingSession(TrainingSession trainingSession) {
+        String[] options = {"Mark as Completed", "Add Attendee", "Back"};
+        int choice = JOptionPane.showOptionDialog(null, "Select an option:", "Update Training Session",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, options, options[0]);
+
+        switch (choice) {
+            case 0:
+                trainingSession.markCompleted();
+                JOptionPane.showMessageDialog(null, "Training session marked as completed.");
+                break;
+            case 1:
+                addAttendeeToTrainingSession(trainingSession);
+                break;
+            case 2:
+                break;
+            default:
+                JOptionPane.showMessageDialog(null, "Invalid command. Please try again.");
+                updateTrainingSession(trainingSession);
+                break;
+        }
+    }
+
+    // Modifies: trainingSession.attendees
+    // Effects: Prompts the user to type the name of the attendee to add, suggesting matching players as they type
+    //          If a player is picked or named exactly, adds that player to the training session
+    //          If no player matches, displays an error message
+    //          Calls updateTrainingSession() afterwards
+    private void addAttendeeToTrainingSession(TrainingSession trainingSession) {
+        PlayerNamePicker picker = new PlayerNamePicker(team);
+        int result = JOptionPane.showConfirmDialog(null, picker, "Enter player's name to add as attendee:",
+                JOptionPane.OK_CANCEL_OPTION);
+        if (result == JOptionPane.OK_OPTION) {
+            Player player = picker.getSelectedPlayer();
+            if (player != null) {
+                trainingSession.addAttendee(player.getName());
+                JOptionPane.showMessageDialog(null, player.getName() + " has been added to the training session.");
+            } else {
+                JOptionPane.showMessageDialog(null, "No player named " + picker.getTypedName() + ". Please try again.");
+            }
+        }
+        updateTrainingSession(trainingSession);
+    }
+}
@@ -0,0 +1,104 @@
+package benchmark;
+
+import model.Game;
+import model.Player;
+import model.Team;
+import model.TrainingSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import persistence.JsonReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeagueGeneratorTest {
+    private static final String TEAM_FILE = "./data/testGeneratedTeam.json";
+    private static final String LEAGUE_DIR = "./data/testGeneratedLeague";
+
+    @AfterEach
+    public void tearDown() {
+        new File(TEAM_FILE).delete();
+        File[] files = new File(LEAGUE_DIR).listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        new File(LEAGUE_DIR).delete();
+    }
+
+    @Test
+    void testWriteTeamReadsBack() throws IOException {
+        new LeagueGenerator(7, 25, 40, 12, 4).writeTeam(TEAM_FILE, "Generated");
+        Team team = new JsonReader(TEAM_FILE).readTeam();
+
+        assertEquals("Generated", team.getTeamName());
+        assertEquals(25, team.getPlayers().size());
+        assertEquals(40, team.getGames().size());
+        assertEquals(12, team.getTrainingSessions().size());
+        Player player = team.getPlayers().get(3);
+        assertEquals(LeagueGenerator.playerName(3), player.getName());
+        assertEquals(3, player.getJerseyNumber());
+        assertTrue(player.getAge() >= team.getLowerBoundAge() && player.getAge() <= team.getUpperBoundAge());
+
+        TrainingSession session = team.getTrainingSessions().get(0);
+        assertEquals(4, session.getAttendees().size());
+        Set<String> gameDays = new HashSet<>();
+        for (Game game : team.getGames()) {
+            gameDays.add(game.getFormattedDate());
+        }
+        assertFalse(gameDays.contains(session.getFormattedDate()));
+        assertEquals(0, team.getGames().get(39).getHomeScore());
+        assertTrue(team.getGames().get(0).getHomeScore() > 0);
+    }
+
+    @Test
+    void testSameSeedSameOutput() throws IOException {
+        new LeagueGenerator(7, 10, 10, 3, 2).writeTeam(TEAM_FILE, "Generated");
+        byte[] first = Files.readAllBytes(Paths.get(TEAM_FILE));
+        new LeagueGenerator(7, 10, 10, 3, 2).writeTeam(TEAM_FILE, "Generated");
+        assertArrayEquals(first, Files.readAllBytes(Paths.get(TEAM_FILE)));
+        new LeagueGenerator(8, 10, 10, 3, 2).writeTeam(TEAM_FILE, "Generated");
+        assertFalse(java.util.Arrays.equals(first, Files.readAllBytes(Paths.get(TEAM_FILE))));
+    }
+
+    @Test
+    void testLeagueGamesAgreeAcrossTeams() throws IOException {
+        List<String> paths = new LeagueGenerator(3, 5, 8, 0, 0).writeLeague(LEAGUE_DIR, 4);
+        assertEquals(4, paths.size());
+        Team first = new JsonReader(paths.get(0)).readTeam();
+        assertEquals(8, first.getGames().size());
+        Game game = first.getGames().get(0);
+        Team opponent = new JsonReader(paths.get(Integer.parseInt(game.getOpponentName().substring(5))))
+                .readTeam();
+        Game mirrored = opponent.getGames().get(0);
+
+        assertEquals("Team 0", mirrored.getOpponentName());
+        assertEquals(game.getFormattedDate(), mirrored.getFormattedDate());
+        assertEquals(game.getVenue(), mirrored.getVenue());
+        assertEquals(game.getHomeScore(), mirrored.getOpponentScore());
+        assertEquals(game.getIsWin(), !mirrored.getIsWin());
+    }
+
+    @Test
+    void testRoundRobinOpponents() {
+        for (int teams = 2; teams <= 7; teams++) {
+            for (int round = 0; round < teams; round++) {
+                for (int team = 0; team < teams; team++) {
+                    int opponent = LeagueGenerator.roundRobinOpponent(teams, team, round);
+                    assertNotEquals(team, opponent);
+                    if (opponent < teams) {
+                        assertEquals(team, LeagueGenerator.roundRobinOpponent(teams, opponent, round));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    public void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getP50());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    void testPercentilesWithinBucketError() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500500, histogram.getMean());
+        assertEquals(1_000_000, histogram.getMax());
+        assertTrue(histogram.getP50() >= 500_000 && histogram.getP50() <= 500_000 * 1.125);
+        assertTrue(histogram.getP90() >= 900_000 && histogram.getP90() <= 900_000 * 1.125);
+        assertTrue(histogram.getP99() >= 990_000 && histogram.getP99() <= 1_000_000);
+    }
+
+    @Test
+    void testSmallAndNegativeValues() {
+        histogram.record(-5);
+        histogram.record(3);
+        assertEquals(0, histogram.percentile(0.5));
+        assertEquals(3, histogram.getP99());
+    }
+
+    @Test
+    void testBucketsCoverEveryValue() {
+        long[] values = {0, 7, 8, 15, 16, 17, 1023, 1024, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.upperBound(bucket));
+            assertTrue(bucket == 0 || value > LatencyHistogram.upperBound(bucket - 1));
+        }
+    }
+
+    @Test
+    void testConcurrentRecording() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9999, histogram.getMax());
+    }
+}
@@ -0,0 +1,53 @@
+package metrics;
+
+import model.Player;
+import model.Position;
+import model.Team;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsRegistryTest {
+
+    @Test
+    void testSameNameSameMetric() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        assertSame(registry.counter("test.counter"), registry.counter("test.counter"));
+        assertSame(registry.histogram("test.histogram"), registry.histogram("test.histogram"));
+    }
+
+    @Test
+    void testCounterAndGauge() {
+        Counter counter = MetricsRegistry.getInstance().counter("test.counting");
+        counter.increment();
+        counter.add(4);
+        assertEquals(5, counter.getCount());
+        long[] value = {7};
+        Gauge gauge = MetricsRegistry.getInstance().gauge("test.gauge", () -> value[0]);
+        assertEquals(7, gauge.getValue());
+        value[0] = 9;
+        assertEquals(9, gauge.getValue());
+    }
+
+    @Test
+    void testPublishedOverJmx() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Team team = new Team("Metrics", 15, 20);
+        team.addMember(new Player("Tom", 18, Position.PG));
+        team.findPlayerByJerseyNumber(0);
+
+        ObjectName name = new ObjectName(MetricsRegistry.DOMAIN + ":type=LatencyHistogram,name="
+                + ObjectName.quote("Team.findPlayerByJerseyNumber"));
+        assertTrue(server.isRegistered(name));
+        assertTrue((Long) server.getAttribute(name, "Count") >= 1);
+        assertTrue((Long) server.getAttribute(name, "P99") >= 0);
+        ObjectName events = new ObjectName(MetricsRegistry.DOMAIN + ":type=Counter,name="
+                + ObjectName.quote("EventLog.events"));
+        assertTrue((Long) server.getAttribute(events, "Count") > 0);
+    }
+}
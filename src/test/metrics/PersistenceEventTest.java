@@ -0,0 +1,118 @@
+package metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import model.Player;
+import model.Position;
+import model.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import persistence.JsonReader;
+import persistence.JsonWriter;
+import persistence.ProgressListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistenceEventTest {
+
+    @Test
+    void testWriteEmitsEventsForEachStage(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("recorded.json");
+        Team team = new Team("Recorded", 15, 20);
+        team.addMember(new Player("Tom\u00e9", 18, Position.PG));
+        team.addMember(new Player("Sam", 17, Position.C));
+        Path dump = File.createTempFile("persistence", ".jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable(PersistenceEvent.class).withoutThreshold();
+            recording.start();
+            JsonWriter writer = new JsonWriter(file.toString());
+            writer.open();
+            writer.write(team);
+            writer.close();
+            recording.stop();
+            recording.dump(dump);
+        }
+        Map<String, RecordedEvent> events = readEvents(dump);
+        assertTrue(events.keySet().containsAll(List.of("JsonWriter.open", "JsonWriter.toJson",
+                "JsonWriter.toString", "JsonWriter.print", "JsonWriter.write", "JsonWriter.close")));
+        RecordedEvent write = events.get("JsonWriter.write");
+        assertEquals(2, write.getInt("players"));
+        assertEquals(0, write.getInt("games"));
+        assertEquals(Files.size(file), write.getLong("bytes"));
+        assertEquals(-1, events.get("JsonWriter.toJson").getLong("bytes"));
+    }
+
+    @Test
+    void testReadRecordsFileSize() throws IOException {
+        String source = "./data/testReaderNormalTeam.json";
+        Path dump = File.createTempFile("persistence", ".jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable(PersistenceEvent.class).withoutThreshold();
+            recording.start();
+            new JsonReader(source).readTeam();
+            recording.stop();
+            recording.dump(dump);
+        }
+        Map<String, RecordedEvent> events = readEvents(dump);
+        long size = Files.size(Path.of(source));
+        assertEquals(size, events.get("JsonReader.readFile").getLong("bytes"));
+        assertEquals(size, events.get("JsonReader.parseTeam").getLong("bytes"));
+    }
+
+    @Test
+    void testAtomicWriteAndListenedReadEmitEvents(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("atomic.json");
+        Team team = new Team("Atomic", 10, 12);
+        team.addMember(new Player("Zoe", 11, Position.C));
+        Path dump = directory.resolve("atomic.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PersistenceEvent.class).withoutThreshold();
+            recording.start();
+            new JsonWriter(file.toString()).writeAtomically(team.snapshot(), ProgressListener.NONE);
+            new JsonReader(file.toString()).readTeam((done, total) -> { });
+            recording.stop();
+            recording.dump(dump);
+        }
+        Map<String, RecordedEvent> events = readEvents(dump);
+        RecordedEvent write = events.get("JsonWriter.writeAtomically");
+        assertEquals(1, write.getInt("players"));
+        assertEquals(Files.size(file), write.getLong("bytes"));
+        assertEquals(Files.size(file), events.get("JsonReader.readFile").getLong("bytes"));
+        assertEquals(1, events.get("JsonReader.parseTeam").getInt("players"));
+    }
+
+    @Test
+    void testUtf8Length() {
+        assertEquals(0, PersistenceEvent.utf8Length(""));
+        assertEquals(3, PersistenceEvent.utf8Length("abc"));
+        assertEquals(2, PersistenceEvent.utf8Length("\u00e9"));
+        assertEquals(3, PersistenceEvent.utf8Length("\u20ac"));
+        assertEquals(4, PersistenceEvent.utf8Length("\ud83c\udfc0"));
+    }
+
+    @Test
+    void testDisabledEventIsNotCommitted() {
+        PersistenceEvent event = PersistenceEvent.start("test", "nowhere");
+        event.finish(1, 2, 3, 4);
+        assertEquals(-1, event.players);
+    }
+
+    // EFFECTS: returns the events in the recording dump by operation, then deletes the dump
+    private static Map<String, RecordedEvent> readEvents(Path dump) throws IOException {
+        Map<String, RecordedEvent> events = new HashMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+            events.put(event.getString("operation"), event);
+        }
+        Files.delete(dump);
+        return events;
+    }
+}
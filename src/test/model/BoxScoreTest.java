@@ -0,0 +1,45 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BoxScoreTest {
+
+    @Test
+    void testHomeScoreIsSumOfPoints() {
+        Player guard = new Player("Guard", 20, Position.PG);
+        Player center = new Player("Center", 21, Position.C);
+        int[][] lines = {{12, 7, 3, 0}, {20, 1, 11, 4}};
+        BoxScore boxScore = new BoxScore(List.of(guard, center), lines, 30);
+        lines[0][BoxScore.POINTS] = 99;
+
+        assertEquals(32, boxScore.getHomeScore());
+        assertEquals(30, boxScore.getOpponentScore());
+        assertEquals(11, boxScore.getStat(1, BoxScore.REBOUNDS));
+        assertEquals(List.of(guard, center), boxScore.getPlayers());
+    }
+
+    @Test
+    void testInvalidBoxScoresRejected() {
+        Player guard = new Player("Guard", 20, Position.PG);
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoxScore(List.of(guard), new int[][] {{1, 2, 3, -1}}, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoxScore(List.of(guard), new int[][] {{1, 2, 3, 4}}, -10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoxScore(List.of(guard), new int[][] {{Integer.MAX_VALUE, 0, 0, 0}}, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoxScore(List.of(guard), new int[][] {{1, 2, 3, 4}}, BoxScore.MAX_VALUE + 1));
+        assertEquals(BoxScore.MAX_VALUE,
+                new BoxScore(List.of(guard), new int[][] {{BoxScore.MAX_VALUE, 0, 0, 0}}, 0).getHomeScore());
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoxScore(List.of(guard), new int[][] {{1, 2, 3}}, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BoxScore(List.of(guard), new int[0][], 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BoxScore(List.of(guard, guard), new int[][] {{1, 2, 3, 4}, {1, 2, 3, 4}}, 10));
+    }
+}
@@ -0,0 +1,84 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HeadToHeadTest {
+    private static final long DAY = 86400000L;
+    private Team team;
+
+    @BeforeEach
+    public void setUp() {
+        team = new Team("Scouting", 15, 20);
+    }
+
+    @Test
+    void testNoGamesAgainstOpponent() {
+        assertNull(team.getHeadToHead("TSU"));
+        assertEquals(Set.of(), team.getOpponents());
+    }
+
+    @Test
+    void testHeadToHeadTotals() {
+        Game first = schedule("TSU", 3, 80, 70);
+        schedule("UBC", 1, 50, 60);
+        Game second = schedule("TSU", 5, 60, 64);
+        Game upcoming = schedule("TSU", 9, 0, 0);
+        Game earliest = schedule("TSU", 2, 90, 70);
+
+        HeadToHead tsu = team.getHeadToHead("TSU");
+        assertEquals(List.of(earliest, first, second, upcoming), tsu.getGames());
+        assertEquals(2, tsu.getRecord().getWins());
+        assertEquals(1, tsu.getRecord().getLosses());
+        assertEquals((10 - 4 + 20) / 3.0, tsu.getAverageMargin(), 1e-9);
+        assertSame(second, tsu.getLastMeeting());
+        assertEquals(1, team.getHeadToHead("UBC").getRecord().getLosses());
+        assertEquals(Set.of("TSU", "UBC"), team.getOpponents());
+    }
+
+    @Test
+    void testResultsRecordedLaterUpdateHeadToHead() {
+        Game played = schedule("TSU", 1, 80, 70);
+        Game upcoming = schedule("TSU", 4, 0, 0);
+        record(upcoming, 70, 72);
+        HeadToHead tsu = team.getHeadToHead("TSU");
+        assertSame(upcoming, tsu.getLastMeeting());
+        assertEquals(4, tsu.getAverageMargin(), 1e-9);
+        record(upcoming, 0, 0);
+        assertEquals(1, tsu.getRecord().getWins());
+        assertEquals(0, tsu.getRecord().getLosses());
+        assertSame(played, tsu.getLastMeeting());
+    }
+
+    @Test
+    void testSetGamesRebuildsIndex() {
+        schedule("TSU", 1, 80, 70);
+        List<Game> games = new ArrayList<>();
+        games.add(new Game("SFU", new Date(DAY), "SRC"));
+        team.setGames(games);
+        assertNull(team.getHeadToHead("TSU"));
+        assertEquals(1, team.getHeadToHead("SFU").getGames().size());
+    }
+
+    private Game schedule(String opponent, int day, int homeScore, int opponentScore) {
+        Game game = new Game(opponent, new Date(day * DAY), "SRC");
+        team.addGame(game);
+        record(game, homeScore, opponentScore);
+        return game;
+    }
+
+    private void record(Game game, int homeScore, int opponentScore) {
+        game.setHomeScore(homeScore);
+        game.setOpponentScore(opponentScore);
+        game.setIsWin(homeScore > opponentScore);
+    }
+}
@@ -0,0 +1,118 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LineupOptimizerTest {
+    private static final long TIME_LIMIT = 10000;
+    private Team team;
+    private LineupOptimizer optimizer;
+
+    @BeforeEach
+    public void setUp() {
+        team = new Team("Lineups", 15, 30);
+        optimizer = new LineupOptimizer(1, 1.5, 1.2, 2);
+    }
+
+    @Test
+    void testBestLineupTakesBestAtEachPosition() {
+        Player[] best = new Player[Position.values().length];
+        for (Position position : Position.values()) {
+            best[position.ordinal()] = add(position, 100);
+            add(position, 50);
+            add(position, 10);
+        }
+        List<Lineup> lineups = optimizer.optimize(team, LineupOptimizer.ONE_OF_EACH, p -> true, 3, TIME_LIMIT);
+        assertEquals(3, lineups.size());
+        assertEquals(List.of(best), lineups.get(0).getPlayers());
+        assertEquals(500, lineups.get(0).getScore(), 1e-9);
+        assertEquals(450, lineups.get(1).getScore(), 1e-9);
+        assertEquals(450, lineups.get(2).getScore(), 1e-9);
+    }
+
+    @Test
+    void testUnavailablePlayersAreSkipped() {
+        Player star = add(Position.C, 100);
+        Player backup = add(Position.C, 20);
+        for (Position position : List.of(Position.PG, Position.SG, Position.SF, Position.PF)) {
+            add(position, 30);
+        }
+        List<Lineup> lineups = optimizer.optimize(team, LineupOptimizer.ONE_OF_EACH, p -> p != star, 5, TIME_LIMIT);
+        assertEquals(1, lineups.size());
+        assertTrue(lineups.get(0).getPlayers().contains(backup));
+    }
+
+    @Test
+    void testNoLegalLineup() {
+        add(Position.PG, 10);
+        assertTrue(optimizer.optimize(team, LineupOptimizer.ONE_OF_EACH, p -> true, 1, TIME_LIMIT).isEmpty());
+    }
+
+    @Test
+    void testFlexibleTemplateMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int i = 0; i < 16; i++) {
+            add(Position.values()[random.nextInt(5)], random.nextInt(100));
+        }
+        Set<Position> guards = Set.of(Position.PG, Position.SG);
+        Set<Position> bigs = Set.of(Position.PF, Position.C);
+        Set<Position> any = Set.of(Position.values());
+        List<Set<Position>> template = List.of(guards, guards, bigs, bigs, any);
+        List<Lineup> lineups = optimizer.optimize(team, template, p -> true, 10, TIME_LIMIT);
+        List<Double> expected = bruteForce(template);
+        assertEquals(expected.subList(0, 10), lineups.stream().map(Lineup::getScore).toList());
+        Set<Set<Player>> distinct = new HashSet<>();
+        for (Lineup lineup : lineups) {
+            assertTrue(distinct.add(new HashSet<>(lineup.getPlayers())));
+            for (int slot = 0; slot < template.size(); slot++) {
+                assertTrue(template.get(slot).contains(lineup.getPlayers().get(slot).getPosition()));
+            }
+        }
+        assertFalse(lineups.isEmpty());
+    }
+
+    // EFFECTS: returns the scores of every distinct lineup fitting template, best first
+    private List<Double> bruteForce(List<Set<Position>> template) {
+        List<Player> players = team.getPlayers();
+        Set<Set<Player>> lineups = new HashSet<>();
+        collect(template, players, new ArrayList<>(), lineups);
+        List<Double> scores = new ArrayList<>();
+        for (Set<Player> lineup : lineups) {
+            scores.add(lineup.stream().mapToDouble(optimizer::score).sum());
+        }
+        scores.sort((a, b) -> Double.compare(b, a));
+        return scores;
+    }
+
+    private void collect(List<Set<Position>> template, List<Player> players, List<Player> chosen,
+                         Set<Set<Player>> lineups) {
+        if (chosen.size() == template.size()) {
+            lineups.add(new HashSet<>(chosen));
+            return;
+        }
+        for (Player player : players) {
+            if (!chosen.contains(player) && template.get(chosen.size()).contains(player.getPosition())) {
+                chosen.add(player);
+                collect(template, players, chosen, lineups);
+                chosen.remove(chosen.size() - 1);
+            }
+        }
+    }
+
+    private Player add(Position position, int points) {
+        Player player = new Player("P" + team.getPlayers().size(), 20, position);
+        player.getStats().setPoints(points);
+        team.addMember(player);
+        return player;
+    }
+}
@@ -0,0 +1,83 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentListTest {
+
+    @Test
+    void testEmpty() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    void testPlusLeavesOriginalUnchanged() {
+        PersistentList<String> one = PersistentList.<String>empty().plus("b");
+        PersistentList<String> two = one.plus(0, "a");
+        PersistentList<String> three = two.plus("c");
+        assertEquals(List.of("b"), one);
+        assertEquals(List.of("a", "b"), two);
+        assertEquals(List.of("a", "b", "c"), three);
+        assertThrows(IndexOutOfBoundsException.class, () -> three.plus(5, "d"));
+    }
+
+    @Test
+    void testRandomInsertsMatchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            expected.add(index, i);
+            actual = actual.plus(index, i);
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+        for (int i = 0; i < expected.size(); i += 97) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    void testReplaceLeavesOriginalUnchanged() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100; i++) {
+            list = list.plus(i);
+        }
+        PersistentList<Integer> replaced = list.replace(37, -1);
+        assertEquals(37, list.get(37));
+        assertEquals(-1, replaced.get(37));
+        assertEquals(100, replaced.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i == 37 ? -1 : i, replaced.get(i));
+        }
+        PersistentList<Integer> last = replaced;
+        assertThrows(IndexOutOfBoundsException.class, () -> last.replace(100, 0));
+    }
+
+    @Test
+    void testOfKeepsOrder() {
+        List<String> source = Arrays.asList("x", "y", "z", "w");
+        PersistentList<String> list = PersistentList.of(source);
+        assertEquals(source, list);
+        assertSame(list, PersistentList.of(list));
+    }
+
+    @Test
+    void testReadOnly() {
+        PersistentList<String> list = PersistentList.<String>empty().plus("a");
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> PersistentList.empty().clear());
+    }
+}
@@ -0,0 +1,74 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PlayerNameIndexTest {
+    private Team team;
+    private Player stephen;
+    private Player steven;
+    private Player klay;
+    private Player draymond;
+
+    @BeforeEach
+    public void setUp() {
+        team = new Team("Index", 15, 40);
+        stephen = add("Stephen Curry");
+        steven = add("Steven Adams");
+        klay = add("Klay Thompson");
+        draymond = add("Draymond Green");
+    }
+
+    @Test
+    void testFindIgnoresCaseAndSpacing() {
+        assertSame(klay, team.findPlayerByName("klay thompson"));
+        assertSame(klay, team.findPlayerByName("  KLAY   Thompson "));
+        assertNull(team.findPlayerByName("Klay"));
+    }
+
+    @Test
+    void testMisspeltNameFindsPlayer() {
+        assertEquals(stephen, team.suggestPlayers("Stehpen Cury", 3).get(0));
+        assertEquals(draymond, team.suggestPlayers("draymund", 3).get(0));
+        assertEquals(klay, team.suggestPlayers("Thomson", 1).get(0));
+    }
+
+    @Test
+    void testPrefixMatchesRankFirst() {
+        List<Player> suggestions = team.suggestPlayers("Ste", 5);
+        assertEquals(Set.of(stephen, steven), Set.copyOf(suggestions.subList(0, 2)));
+        assertEquals(List.of(steven), team.suggestPlayers("steven", 1));
+    }
+
+    @Test
+    void testUnrelatedQueryHasNoSuggestions() {
+        assertTrue(team.suggestPlayers("xyz", 5).isEmpty());
+        assertTrue(team.suggestPlayers("", 5).isEmpty());
+    }
+
+    @Test
+    void testLargeRosterStaysSelective() {
+        Team league = new Team("League", 0, 100);
+        for (int i = 0; i < 5000; i++) {
+            league.addMember(new Player("Player" + i + " Name" + (i * 7919 % 5000), 20, Position.C));
+        }
+        Player wanted = new Player("Zion Williamson", 20, Position.PF);
+        league.addMember(wanted);
+        assertEquals(wanted, league.suggestPlayers("zion wiliamson", 5).get(0));
+        assertEquals(wanted, league.findPlayerByName("Zion Williamson"));
+    }
+
+    private Player add(String name) {
+        Player player = new Player(name, 25, Position.SG);
+        team.addMember(player);
+        return player;
+    }
+}
@@ -12,12 +12,12 @@ public class PlayerTest {
 
     @BeforeEach
     public void setUp() {
-        player = new Player("Aj", 19, "SG");
+        player = new Player("Aj", 19, Position.SG);
     }
 
     @Test
     public void testGetPosition() {
-        assertEquals("SG", player.getPosition());
+        assertEquals(Position.SG, player.getPosition());
     }
 
     @Test
@@ -28,8 +28,8 @@ public class PlayerTest {
 
     @Test
     public void testSetPosition() {
-        player.setPosition("PG");
-        assertEquals("PG", player.getPosition());
+        player.setPosition(Position.PG);
+        assertEquals(Position.PG, player.getPosition());
     }
 
     @Test
@@ -0,0 +1,27 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PositionTest {
+
+    @Test
+    void testParseEveryPosition() {
+        for (Position position : Position.values()) {
+            assertEquals(position, Position.parse(position.name()));
+            assertEquals(position, Position.parse(position.name().toLowerCase()));
+        }
+    }
+
+    @Test
+    void testParseRejectsOtherText() {
+        assertThrows(IllegalArgumentException.class, () -> Position.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> Position.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> Position.parse("G"));
+        assertThrows(IllegalArgumentException.class, () -> Position.parse("CF"));
+        assertThrows(IllegalArgumentException.class, () -> Position.parse("PGS"));
+        assertThrows(IllegalArgumentException.class, () -> Position.parse(" C"));
+    }
+}
@@ -0,0 +1,142 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RatingEngineTest {
+    private static final long DAY = 86400000L;
+    private RatingEngine engine;
+    private Team home;
+    private Team away;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new RatingEngine();
+        home = new Team("Home", 15, 20);
+        away = new Team("Away", 15, 20);
+    }
+
+    @Test
+    void testUnknownTeamHasInitialRating() {
+        assertEquals(RatingEngine.INITIAL_RATING, engine.getRating("Nobody"));
+        assertEquals(0, engine.getGamesRated("Nobody"));
+        assertEquals(0.5, engine.getWinProbability("Home", "Away"), 1e-9);
+    }
+
+    @Test
+    void testRecordedResultUpdatesBothRatings() {
+        engine.track(home);
+        Game game = schedule(home, "TSU", 1);
+        record(game, 80, 70);
+        assertEquals(1510, engine.getRating("Home"), 1e-9);
+        assertEquals(1490, engine.getRating("TSU"), 1e-9);
+        assertEquals(1, engine.getGamesRated("Home"));
+        assertEquals(1, engine.getGamesRated("TSU"));
+        assertEquals(expected(20), engine.getWinProbability("Home", "TSU"), 1e-9);
+    }
+
+    @Test
+    void testCorrectionTakesBackEarlierResult() {
+        engine.track(home);
+        Game game = schedule(home, "TSU", 1);
+        record(game, 80, 70);
+        record(game, 70, 80);
+        assertEquals(1490, engine.getRating("Home"), 1e-9);
+        assertEquals(1, engine.getGamesRated("Home"));
+        record(game, 0, 0);
+        assertEquals(RatingEngine.INITIAL_RATING, engine.getRating("Home"), 1e-9);
+        assertEquals(0, engine.getGamesRated("TSU"));
+    }
+
+    @Test
+    void testUntrackedTeamIsNotRated() {
+        record(schedule(home, "TSU", 1), 80, 70);
+        assertEquals(RatingEngine.INITIAL_RATING, engine.getRating("Home"));
+    }
+
+    @Test
+    void testMirroredLeagueGameRatedOnce() {
+        engine.track(home);
+        engine.track(away);
+        record(schedule(home, "Away", 1), 80, 70);
+        record(schedule(away, "Home", 1), 70, 80);
+        assertEquals(1510, engine.getRating("Home"), 1e-9);
+        assertEquals(1490, engine.getRating("Away"), 1e-9);
+        assertEquals(1, engine.getGamesRated("Away"));
+    }
+
+    @Test
+    void testCorrectionOnOpponentsCopyReratesMeeting() {
+        engine.track(home);
+        engine.track(away);
+        Game homeCopy = schedule(home, "Away", 1);
+        Game awayCopy = schedule(away, "Home", 1);
+        record(homeCopy, 80, 70);
+        record(awayCopy, 90, 80);
+        assertEquals(1490, engine.getRating("Home"), 1e-9);
+        assertEquals(1510, engine.getRating("Away"), 1e-9);
+        assertEquals(1, engine.getGamesRated("Home"));
+        assertEquals(1, engine.getGamesRated("Away"));
+
+        engine.rebuild(List.of(home, away));
+        record(homeCopy, 85, 70);
+        assertEquals(1510, engine.getRating("Home"), 1e-9);
+        assertEquals(1, engine.getGamesRated("Away"));
+    }
+
+    @Test
+    void testRebuildRatesHistoryInDateOrder() {
+        record(schedule(home, "Away", 1), 80, 70);
+        record(schedule(away, "Home", 1), 70, 80);
+        record(schedule(home, "TSU", 3), 60, 70);
+        record(schedule(away, "TSU", 2), 90, 70);
+        engine.rebuild(List.of(home, away));
+
+        double homeRating = 1510;
+        double awayRating = 1490;
+        double awayDelta = 20 * (1 - expected(awayRating - 1500));
+        awayRating += awayDelta;
+        double tsuRating = 1500 - awayDelta;
+        homeRating -= 20 * expected(homeRating - tsuRating);
+        assertEquals(homeRating, engine.getRating("Home"), 1e-9);
+        assertEquals(awayRating, engine.getRating("Away"), 1e-9);
+        assertEquals(2, engine.getGamesRated("TSU"));
+        assertEquals(2, engine.getGamesRated("Home"));
+    }
+
+    @Test
+    void testRebuildForgetsEarlierRatingsAndKeepsTracking() {
+        engine.track(home);
+        Game game = schedule(home, "TSU", 1);
+        record(game, 80, 70);
+        record(game, 0, 0);
+        record(game, 80, 70);
+        engine.rebuild(List.of(home));
+        assertEquals(1510, engine.getRating("Home"), 1e-9);
+        record(game, 70, 80);
+        assertEquals(1490, engine.getRating("Home"), 1e-9);
+        assertEquals(1, engine.getGamesRated("Home"));
+    }
+
+    // EFFECTS: returns the expected score of a team rated ratingGap points above its opponent
+    private static double expected(double ratingGap) {
+        return 1 / (1 + Math.pow(10, -ratingGap / 400));
+    }
+
+    private Game schedule(Team team, String opponent, int day) {
+        Game game = new Game(opponent, new Date(day * DAY), "SRC");
+        team.addGame(game);
+        return game;
+    }
+
+    private void record(Game game, int homeScore, int opponentScore) {
+        game.setHomeScore(homeScore);
+        game.setOpponentScore(opponentScore);
+        game.setIsWin(homeScore > opponentScore);
+    }
+}
@@ -0,0 +1,74 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SeasonSimulatorTest {
+    private static final long DAY = 86400000L;
+    private Team team;
+
+    @BeforeEach
+    public void setUp() {
+        team = new Team("Forecast", 15, 20);
+        for (int i = 0; i < 5; i++) {
+            Player player = new Player("P" + i, 18, Position.values()[i]);
+            player.getStats().setPoints(32);
+            team.addMember(player);
+        }
+    }
+
+    @Test
+    void testNoRemainingGames() {
+        play("TSU", 1, 80, 70);
+        SeasonForecast forecast = new SeasonSimulator(1).simulate(team, 1000);
+        assertTrue(forecast.getRemainingGames().isEmpty());
+        assertEquals(1, forecast.getFinalWinsProbability(1), 1e-9);
+        assertEquals(1, forecast.getExpectedWins(), 1e-9);
+    }
+
+    @Test
+    void testHistoryAgainstOpponentDrivesForecast() {
+        play("Strong", 1, 70, 95);
+        play("Strong", 2, 72, 96);
+        play("Weak", 3, 90, 60);
+        play("Weak", 4, 88, 58);
+        team.addGame(new Game("Strong", new Date(10 * DAY), "SRC"));
+        team.addGame(new Game("Weak", new Date(11 * DAY), "SRC"));
+        SeasonForecast forecast = new SeasonSimulator(42).simulate(team, 200_000);
+        assertEquals(2, forecast.getRemainingGames().size());
+        assertTrue(forecast.getWinProbability(0) < 0.2);
+        assertTrue(forecast.getWinProbability(1) > 0.8);
+        double total = 0;
+        for (int wins = 2; wins <= 4; wins++) {
+            total += forecast.getFinalWinsProbability(wins);
+        }
+        assertEquals(1, total, 1e-9);
+        assertEquals(0, forecast.getFinalWinsProbability(5));
+        assertEquals(2 + forecast.getWinProbability(0) + forecast.getWinProbability(1),
+                forecast.getExpectedWins(), 1e-9);
+    }
+
+    @Test
+    void testSameSeedSameForecast() {
+        team.addGame(new Game("TSU", new Date(DAY), "SRC"));
+        team.addGame(new Game("UBC", new Date(2 * DAY), "SRC"));
+        SeasonForecast first = new SeasonSimulator(7).simulate(team, 100_000);
+        SeasonForecast second = new SeasonSimulator(7).simulate(team, 100_000);
+        assertEquals(first.getWinProbability(0), second.getWinProbability(0));
+        assertEquals(first.getFinalWinsProbability(1), second.getFinalWinsProbability(1));
+        assertEquals(0.5, first.getWinProbability(1), 0.02);
+    }
+
+    private void play(String opponent, int day, int homeScore, int opponentScore) {
+        Game game = new Game(opponent, new Date(day * DAY), "SRC");
+        team.addGame(game);
+        game.setHomeScore(homeScore);
+        game.setOpponentScore(opponentScore);
+        game.setIsWin(homeScore > opponentScore);
+    }
+}
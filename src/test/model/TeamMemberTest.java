@@ -11,7 +11,7 @@ public class TeamMemberTest {
 
     @BeforeEach
     public void setUp() {
-        member = new Player("Aj", 19, "PG");
+        member = new Player("Aj", 19, Position.PG);
     }
 
     @Test
@@ -0,0 +1,116 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TeamRecordTest {
+    private static final long DAY = 86400000L;
+    private Team team;
+
+    @BeforeEach
+    public void setUp() {
+        team = new Team("Record", 15, 20);
+    }
+
+    @Test
+    void testEmptyRecord() {
+        TeamRecord record = team.getRecord();
+        assertEquals(0, record.getWins());
+        assertEquals(0, record.getLosses());
+        assertEquals(0, record.getCurrentStreak());
+        assertEquals(Set.of(), record.getVenues());
+    }
+
+    @Test
+    void testUnplayedGamesDoNotCount() {
+        team.addGame(new Game("A", new Date(DAY), "SRC"));
+        assertEquals(0, team.getRecord().getLosses());
+        assertEquals(0, team.getRecord().getCurrentStreak());
+    }
+
+    @Test
+    void testResultsAsTheyArrive() {
+        record(schedule("A", 1, "SRC"), 80, 70);
+        record(schedule("B", 2, "Osborne"), 60, 75);
+        record(schedule("C", 3, "SRC"), 90, 88);
+        record(schedule("D", 4, "SRC"), 70, 65);
+        TeamRecord record = team.getRecord();
+        assertEquals(3, record.getWins());
+        assertEquals(1, record.getLosses());
+        assertEquals(300, record.getPointsFor());
+        assertEquals(298, record.getPointsAgainst());
+        assertEquals(2, record.getPointDifferential());
+        assertEquals(3, record.getWinsAt("SRC"));
+        assertEquals(0, record.getLossesAt("SRC"));
+        assertEquals(1, record.getLossesAt("Osborne"));
+        assertEquals(Set.of("SRC", "Osborne"), record.getVenues());
+        assertEquals(2, record.getCurrentStreak());
+    }
+
+    @Test
+    void testCorrectionReversesResult() {
+        record(schedule("A", 1, "SRC"), 80, 70);
+        Game second = schedule("B", 2, "SRC");
+        record(second, 80, 70);
+        Game third = schedule("C", 3, "SRC");
+        record(third, 60, 70);
+        assertEquals(-1, team.getRecord().getCurrentStreak());
+
+        record(third, 75, 70);
+        assertEquals(3, team.getRecord().getWins());
+        assertEquals(0, team.getRecord().getLosses());
+        assertEquals(3, team.getRecord().getCurrentStreak());
+
+        record(second, 50, 70);
+        assertEquals(2, team.getRecord().getWins());
+        assertEquals(1, team.getRecord().getLosses());
+        assertEquals(235 - 30, team.getRecord().getPointsFor());
+        assertEquals(1, team.getRecord().getCurrentStreak());
+    }
+
+    @Test
+    void testResultAddedForEarlierGame() {
+        Game first = schedule("A", 1, "SRC");
+        record(schedule("B", 2, "SRC"), 60, 70);
+        record(schedule("C", 3, "SRC"), 60, 70);
+        assertEquals(-2, team.getRecord().getCurrentStreak());
+        record(first, 60, 70);
+        assertEquals(-3, team.getRecord().getCurrentStreak());
+        record(first, 0, 0);
+        assertEquals(2, team.getRecord().getLosses());
+        assertEquals(-2, team.getRecord().getCurrentStreak());
+    }
+
+    @Test
+    void testSetGamesRebuildsRecord() {
+        record(schedule("A", 1, "SRC"), 80, 70);
+        List<Game> games = new ArrayList<>();
+        Game lost = new Game("B", new Date(DAY), "Osborne");
+        lost.setHomeScore(50);
+        lost.setOpponentScore(70);
+        games.add(lost);
+        team.setGames(games);
+        assertEquals(0, team.getRecord().getWins());
+        assertEquals(1, team.getRecord().getLossesAt("Osborne"));
+        assertEquals(-1, team.getRecord().getCurrentStreak());
+    }
+
+    private Game schedule(String opponent, int day, String venue) {
+        Game game = new Game(opponent, new Date(day * DAY), venue);
+        team.addGame(game);
+        return game;
+    }
+
+    private void record(Game game, int homeScore, int opponentScore) {
+        game.setHomeScore(homeScore);
+        game.setOpponentScore(opponentScore);
+        game.setIsWin(homeScore > opponentScore);
+    }
+}
@@ -4,8 +4,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.util.Date;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TeamTest {
@@ -29,7 +33,7 @@ public class TeamTest {
 
     @Test
     public void testAddMember() {
-        Player player = new Player("Player1", 20, "PG");
+        Player player = new Player("Player1", 20, Position.PG);
         team.addMember(player);
         assertEquals(1, team.getPlayers().size());
     }
@@ -79,7 +83,7 @@ public class TeamTest {
 
     @Test
     public void testFindPlayerByJerseyNumber() {
-        Player player1 = new Player("Aj", 19, "PG");
+        Player player1 = new Player("Aj", 19, Position.PG);
         player1.setJerseyNumber(7);
         team.addMember(player1);
 
@@ -108,4 +112,265 @@ public class TeamTest {
         assertTrue(team.getTrainingSessions().contains(trainingSession1));
         assertTrue(team.getTrainingSessions().contains(trainingSession2));
     }
+
+    @Test
+    public void testObserversToldAboutChildModifications() {
+        int[] changes = new int[1];
+        TeamObserver observer = t -> changes[0]++;
+        team.addObserver(observer);
+        team.addObserver(observer);
+
+        Player player = new Player("Player1", 20, Position.PG);
+        team.addMember(player);
+        player.setJerseyNumber(4);
+        player.getStats().addPoints(3);
+        Game game = new Game("A", new Date(), "src");
+        team.addGame(game);
+        game.setIsWin(true);
+        team.addTrainingSession(trainingSession1);
+        trainingSession1.markCompleted();
+        assertEquals(7, changes[0]);
+
+        team.removeObserver(observer);
+        game.setHomeScore(3);
+        assertEquals(7, changes[0]);
+    }
+
+    @Test
+    void testGettersReturnReadOnlySnapshots() {
+        Player player = new Player("Player1", 19, Position.PG);
+        team.addMember(player);
+        List<Player> players = team.getPlayers();
+        team.addMember(new Player("Player2", 19, Position.C));
+        assertEquals(1, players.size());
+        assertEquals(2, team.getPlayers().size());
+        assertThrows(UnsupportedOperationException.class, () -> players.add(player));
+        assertThrows(UnsupportedOperationException.class, () -> team.getGames().clear());
+        assertThrows(UnsupportedOperationException.class, () -> team.getTrainingSessions().remove(0));
+    }
+
+    @Test
+    void testConcurrentWritersAndReaders() throws InterruptedException {
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 500; i++) {
+                        team.addMember(new Player("P" + offset + "-" + i, 19, Position.SF));
+                        team.addGame(new Game("G", new Date((i * 4L + offset) * 86400000L), "src"));
+                        team.addTrainingSession(new TrainingSession(new Date(), "src", 60));
+                        team.getPlayers().forEach(Player::getName);
+                        if (i % 50 == 0) {
+                            team.toJson();
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals(2000, team.getPlayers().size());
+        assertEquals(2000, team.getTrainingSessions().size());
+        List<Game> games = team.getGames();
+        for (int i = 1; i < games.size(); i++) {
+            assertTrue(!games.get(i).getDate().before(games.get(i - 1).getDate()));
+        }
+    }
+
+    @Test
+    void testConcurrentIngestLosesNoUpdates() throws InterruptedException {
+        Player guard = new Player("Guard", 19, Position.PG);
+        team.addMember(guard);
+        Game game = new Game("Rivals", new Date(), "src");
+        team.addGame(game);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 500; i++) {
+                        guard.getStats().addPoints(1);
+                        team.recordBoxScore(game, new BoxScore(List.of(guard), new int[][] {{2, 0, 0, 0}}, i % 4));
+                        game.setOpponentScore(i % 2 == 0 ? 1 : 3);
+                        team.snapshot().toJson();
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals(6000, guard.getStats().getPoints());
+        TeamRecord record = team.getRecord();
+        assertEquals(1, record.getWins() + record.getLosses());
+        assertEquals(game.getIsWin() ? 1 : 0, record.getWins());
+        assertEquals(game.getHomeScore(), record.getPointsFor());
+        assertEquals(game.getOpponentScore(), record.getPointsAgainst());
+        assertEquals(game.getOpponentScore(), team.getHeadToHead("Rivals").getRecord().getPointsAgainst());
+    }
+
+    @Test
+    void testSnapshotIsUnaffectedByLaterModifications() {
+        Player player = new Player("Player1", 19, Position.PG);
+        team.addMember(player);
+        team.addGame(new Game("A", new Date(86400000L), "src"));
+        TeamSnapshot before = team.snapshot();
+        team.addMember(new Player("Player2", 19, Position.C));
+        team.addGame(new Game("B", new Date(0), "src"));
+        team.addTrainingSession(trainingSession1);
+        assertEquals(1, before.getPlayers().size());
+        assertEquals(1, before.getGames().size());
+        assertEquals(0, before.getTrainingSessions().size());
+        assertEquals("A", before.toJson().getJSONArray("games").getJSONObject(0).getString("opponentName"));
+        TeamSnapshot after = team.snapshot();
+        assertEquals(before.getVersion() + 3, after.getVersion());
+        assertEquals("B", after.getGames().get(0).getOpponentName());
+        player.setJerseyNumber(7);
+        TeamSnapshot latest = team.snapshot();
+        assertEquals(after.getVersion() + 1, latest.getVersion());
+        assertEquals(0, after.getPlayers().get(0).jerseyNumber());
+        assertEquals(7, latest.getPlayers().get(0).jerseyNumber());
+        assertSame(latest, team.snapshot());
+    }
+
+    @Test
+    void testSnapshotEntitiesAreUnchangeableVersions() {
+        Player player = new Player("Player1", 19, Position.PG);
+        team.addMember(player);
+        team.addTrainingSession(trainingSession1);
+        Game game = new Game("A", new Date(), "src");
+        team.addGame(game);
+        TeamSnapshot snapshot = team.snapshot();
+        trainingSession1.addAttendee("Player1");
+        player.getStats().addPoints(3);
+        game.setHomeScore(50);
+        assertTrue(snapshot.getTrainingSessions().get(0).getAttendees().isEmpty());
+        assertEquals(0, snapshot.getPlayers().get(0).getStats().getPoints());
+        assertEquals(0, snapshot.getGames().get(0).getHomeScore());
+
+        Player frozen = snapshot.getPlayers().get(0);
+        assertThrows(UnsupportedOperationException.class, () -> frozen.setJerseyNumber(9));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getStats().addPoints(1));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getGames().get(0).setIsWin(true));
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.getTrainingSessions().get(0).markCompleted());
+        assertEquals(0, player.jerseyNumber());
+        assertEquals(3, player.getStats().getPoints());
+    }
+
+    @Test
+    void testPositionAndAgeIndexes() {
+        Team squad = new Team("Indexed", 15, 30);
+        Player guard = new Player("Guard", 19, Position.PG);
+        Player oldGuard = new Player("Old Guard", 25, Position.PG);
+        Player center = new Player("Center", 20, Position.C);
+        Player youngCenter = new Player("Young Center", 18, Position.C);
+        Player forward = new Player("Forward", 19, Position.SF);
+        squad.addMember(guard);
+        squad.addMember(oldGuard);
+        squad.addMember(center);
+        squad.addMember(youngCenter);
+        squad.addMember(forward);
+        assertEquals(List.of(guard, oldGuard), squad.getPlayersAtPosition(Position.PG));
+        assertEquals(List.of(guard, forward, center), squad.getPlayersAgedBetween(19, 20));
+        assertEquals(List.of(youngCenter, center), squad.getPlayersAtPositionAgedBetween(Position.C, 15, 22));
+        assertEquals(List.of(), squad.getPlayersAtPositionAgedBetween(Position.SG, 15, 30));
+        assertEquals(List.of(), squad.getPlayersAgedBetween(22, 21));
+
+        forward.setPosition(Position.C);
+        assertEquals(List.of(youngCenter, forward, center), squad.getPlayersAtPositionAgedBetween(Position.C, 15, 22));
+        assertEquals(List.of(forward), squad.getPlayersAtPositionAgedBetween(Position.C, 19, 19));
+        assertTrue(squad.getPlayersAtPosition(Position.SF).isEmpty());
+    }
+
+    @Test
+    void testRosterObserversToldWhichRowChanged() {
+        Team squad = new Team("Rows", 15, 30);
+        List<String> events = new ArrayList<>();
+        RosterObserver observer = new RosterObserver() {
+            @Override
+            public void playerAdded(Team team, Player player, int index) {
+                events.add("added " + player.getName() + " " + index);
+            }
+
+            @Override
+            public void playerChanged(Team team, Player player, int index) {
+                events.add("changed " + player.getName() + " " + index);
+            }
+        };
+        squad.addRosterObserver(observer);
+        Player first = new Player("First", 19, Position.PG);
+        Player second = new Player("Second", 20, Position.C);
+        squad.addMember(first);
+        squad.addMember(second);
+        first.setJerseyNumber(4);
+        second.getStats().addPoints(10);
+        squad.removeRosterObserver(observer);
+        second.setPosition(Position.PF);
+        assertEquals(List.of("added First 0", "added Second 1", "changed First 0", "changed Second 1"), events);
+        assertEquals(4, first.jerseyNumber());
+        assertEquals(Position.PF, second.position());
+    }
+
+    @Test
+    void testRecordBoxScoreIsOneModification() {
+        Team squad = new Team("Box", 15, 30);
+        Player guard = new Player("Guard", 20, Position.PG);
+        Player center = new Player("Center", 21, Position.C);
+        squad.addMember(guard);
+        squad.addMember(center);
+        guard.getStats().addPoints(5);
+        Game game = new Game("Rivals", new Date(), "Home");
+        squad.addGame(game);
+        int[] changes = new int[2];
+        squad.addObserver(t -> changes[0]++);
+        squad.addResultObserver((t, g) -> changes[1]++);
+        EventLog.getInstance().clear();
+
+        squad.recordBoxScore(game, new BoxScore(List.of(guard, center), new int[][] {{12, 7, 3, 0}, {20, 1, 11, 4}},
+                30));
+
+        assertEquals(1, changes[0]);
+        assertEquals(1, changes[1]);
+        List<Event> logged = new ArrayList<>();
+        EventLog.getInstance().forEach(logged::add);
+        assertEquals(2, logged.size());
+        assertEquals("Box score recorded against Rivals: 32-30", logged.get(1).getDescription());
+        assertEquals(17, guard.getStats().getPoints());
+        assertEquals(11, center.getStats().getRebounds());
+        assertEquals(4, center.getStats().getBlocks());
+        assertEquals(32, game.getHomeScore());
+        assertEquals(30, game.getOpponentScore());
+        assertTrue(game.getIsWin());
+        assertEquals(1, squad.getRecord().getWins());
+        assertEquals(1, squad.getHeadToHead("Rivals").getRecord().getWins());
+    }
+
+    @Test
+    void testRecordBoxScoreRejectsOutsiders() {
+        Team squad = new Team("Box", 15, 30);
+        Player member = new Player("Member", 20, Position.PG);
+        Player outsider = new Player("Outsider", 20, Position.SG);
+        squad.addMember(member);
+        Game game = new Game("Rivals", new Date(), "Home");
+        BoxScore memberOnly = new BoxScore(List.of(member), new int[][] {{10, 0, 0, 0}}, 8);
+        assertThrows(IllegalArgumentException.class, () -> squad.recordBoxScore(game, memberOnly));
+
+        squad.addGame(game);
+        assertThrows(IllegalArgumentException.class, () -> squad.recordBoxScore(game,
+                new BoxScore(List.of(member, outsider), new int[][] {{10, 0, 0, 0}, {5, 0, 0, 0}}, 8)));
+        assertEquals(0, member.getStats().getPoints());
+        assertEquals(0, game.getHomeScore());
+    }
 }
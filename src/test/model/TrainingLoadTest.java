@@ -0,0 +1,96 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TrainingLoadTest {
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+    private TrainingLoad load;
+    private Team team;
+
+    @BeforeEach
+    public void setUp() {
+        load = new TrainingLoad();
+        team = new Team("Loaded", 15, 20);
+    }
+
+    @Test
+    void testNoTrainingMeansNoLoad() {
+        assertEquals(0, load.getAcuteLoad("Tom", day(0)));
+        assertEquals(0, load.getChronicLoad("Tom", day(0)));
+        assertEquals(0, load.getAcuteChronicRatio("Tom", day(0)));
+    }
+
+    @Test
+    void testOnlyCompletedSessionsCount() {
+        load.track(team);
+        TrainingSession session = session(0, 90, "Tom", "Ash");
+        assertEquals(0, load.getAcuteLoad("Tom", day(0)));
+        session.markCompleted();
+        assertEquals(90, load.getAcuteLoad("Tom", day(0)));
+        assertEquals(90, load.getAcuteLoad("Ash", day(6)));
+        assertEquals(0, load.getAcuteLoad("Ash", day(7)));
+        assertEquals(0, load.getAcuteLoad("Ash", day(-1)));
+    }
+
+    @Test
+    void testAcuteAndChronicWindows() {
+        load.track(team);
+        for (int day = 0; day < 28; day += 2) {
+            session(day, 60, "Tom").markCompleted();
+        }
+        session(27, 120, "Tom").markCompleted();
+        assertEquals(60 * 3 + 120, load.getAcuteLoad("Tom", day(27)));
+        assertEquals((60 * 14 + 120) / 4.0, load.getChronicLoad("Tom", day(27)), 1e-9);
+        assertEquals(300 / 240.0, load.getAcuteChronicRatio("Tom", day(27)), 1e-9);
+        assertEquals(60 * 4, load.getLoad("Tom", day(6), 7));
+    }
+
+    @Test
+    void testAttendeesAddedLaterAndOlderSessions() {
+        load.track(team);
+        TrainingSession session = session(10, 45, "Tom");
+        session.markCompleted();
+        assertEquals(45, load.getAcuteLoad("Tom", day(10)));
+        session.addAttendee("Ash");
+        session.addAttendee("Ash");
+        assertEquals(45, load.getAcuteLoad("Ash", day(12)));
+        session(-20, 30, "Ash").markCompleted();
+        session(2, 15, "Ash").markCompleted();
+        assertEquals(90, load.getLoad("Ash", day(12), 40));
+        session.setDurationInMinutes(60);
+        assertEquals(60, load.getAcuteLoad("Ash", day(12)));
+        assertEquals(60, load.getAcuteLoad("Tom", day(16)));
+    }
+
+    @Test
+    void testRebuildCreditsExistingSessions() {
+        session(0, 90, "Tom").markCompleted();
+        session(3, 30, "Tom");
+        load.rebuild(team);
+        assertEquals(90, load.getAcuteLoad("Tom", day(3)));
+        team.getTrainingSessions().get(1).markCompleted();
+        assertEquals(120, load.getAcuteLoad("Tom", day(3)));
+        load.rebuild(team);
+        assertEquals(120, load.getAcuteLoad("Tom", day(3)));
+    }
+
+    private TrainingSession session(int day, int minutes, String... attendees) {
+        TrainingSession session = new TrainingSession(day(day), "Gym", minutes);
+        for (String attendee : attendees) {
+            session.addAttendee(attendee);
+        }
+        team.addTrainingSession(session);
+        return session;
+    }
+
+    private static Date day(int offset) {
+        return Date.from(START.plusDays(offset).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
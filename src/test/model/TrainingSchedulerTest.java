@@ -0,0 +1,117 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrainingSchedulerTest {
+    // a Monday
+    private static final LocalDate START = LocalDate.of(2024, 3, 4);
+    private static final List<String> VENUES = List.of("Gym", "Track");
+    private static final List<Integer> DURATIONS = List.of(60, 90);
+    private Team team;
+
+    @BeforeEach
+    public void setUp() {
+        team = new Team("Planned", 15, 20);
+    }
+
+    @Test
+    void testFillsOpenDaysUpToWeeklySessionCap() {
+        TrainingScheduler scheduler = new TrainingScheduler(0, 1, 3, 1000);
+        EventLog.getInstance().clear();
+        List<TrainingSession> plan = scheduler.propose(team, day(0), day(13), VENUES, DURATIONS);
+        for (Event event : EventLog.getInstance()) {
+            assertFalse(event.getDescription().startsWith("New training session"));
+        }
+        assertEquals(List.of(0, 1, 2, 7, 8, 9), days(plan));
+        assertEquals("Gym", plan.get(0).getVenue());
+        assertEquals(90, plan.get(1).getDurationInMinutes());
+        assertEquals("Track", plan.get(1).getVenue());
+        assertEquals(0, team.getTrainingSessions().size());
+    }
+
+    @Test
+    void testAvoidsGameDaysAndRestDays() {
+        team.addGame(new Game("TSU", day(1), "SRC"));
+        team.addGame(new Game("UBC", day(-1), "SRC"));
+        team.addGame(new Game("SFU", day(30), "SRC"));
+        TrainingScheduler scheduler = new TrainingScheduler(1, 1, 7, 10000);
+        List<TrainingSession> plan = scheduler.propose(team, day(0), day(6), VENUES, DURATIONS);
+        assertEquals(List.of(3, 4, 5, 6), days(plan));
+    }
+
+    @Test
+    void testSpacingAndMinuteCapWithExistingSessions() {
+        team.addTrainingSession(new TrainingSession(day(2), "Gym", 60));
+        TrainingScheduler scheduler = new TrainingScheduler(0, 2, 7, 200);
+        List<TrainingSession> plan = scheduler.propose(team, day(0), day(13), VENUES, List.of(60));
+        assertEquals(List.of(0, 4, 7, 9, 11), days(plan));
+    }
+
+    @Test
+    void testScheduleAddsSessionsToTeam() {
+        TrainingScheduler scheduler = new TrainingScheduler(0, 1, 2, 1000);
+        List<TrainingSession> plan = scheduler.schedule(team, day(3), day(9), VENUES, DURATIONS);
+        assertEquals(List.of(3, 4, 7, 8), days(plan));
+        assertEquals(plan, team.getTrainingSessions());
+        assertTrue(scheduler.propose(team, day(9), day(3), VENUES, DURATIONS).isEmpty());
+    }
+
+    @Test
+    void testFullSeasonAroundGames() {
+        for (int day = 2; day < 365; day += 4) {
+            team.addGame(new Game("Opponent " + day, day(day), "SRC"));
+        }
+        TrainingScheduler scheduler = new TrainingScheduler(1, 1, 3, 240);
+        List<TrainingSession> plan = scheduler.schedule(team, day(0), day(364), VENUES, DURATIONS);
+        List<Integer> days = days(plan);
+        for (int day : days) {
+            assertTrue(day % 4 != 2 && day % 4 != 3);
+        }
+        assertTrue(plan.size() > 100);
+    }
+
+    @Test
+    void testInvalidConstraintsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TrainingScheduler(-1, 1, 3, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new TrainingScheduler(0, 0, 3, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new TrainingScheduler(0, 1, -1, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new TrainingScheduler(0, 1, 3, -1));
+    }
+
+    @Test
+    void testInvalidPlanInputsRejected() {
+        TrainingScheduler scheduler = new TrainingScheduler(0, 1, 3, 1000);
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule(team, day(0), day(6), List.of(), DURATIONS));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule(team, day(0), day(6), VENUES, List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule(team, day(0), day(6), VENUES, List.of(60, 0)));
+        assertEquals(0, team.getTrainingSessions().size());
+    }
+
+    private static List<Integer> days(List<TrainingSession> sessions) {
+        List<Integer> days = new ArrayList<>();
+        for (TrainingSession session : sessions) {
+            LocalDate date = session.getDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+            days.add((int) (date.toEpochDay() - START.toEpochDay()));
+        }
+        return days;
+    }
+
+    private static Date day(int offset) {
+        return Date.from(START.plusDays(offset).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
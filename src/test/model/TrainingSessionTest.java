@@ -19,8 +19,8 @@ public class TrainingSessionTest {
         int durationInMinutes = 60;
         trainingSession = new TrainingSession(date, venue, durationInMinutes);
 
-        player1 = new Player("Player 1", 20, "PG");
-        player2 = new Player("Player 2", 22, "SG");
+        player1 = new Player("Player 1", 20, Position.PG);
+        player2 = new Player("Player 2", 22, Position.SG);
     }
 
     @Test
@@ -0,0 +1,105 @@
+package persistence;
+
+import model.Game;
+import model.Player;
+import model.Position;
+import model.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AutosaveServiceTest {
+    private static final String DESTINATION = "./data/testAutosaveTeam.json";
+    private Team team;
+    private AutosaveService autosave;
+
+    @BeforeEach
+    public void setUp() {
+        new File(DESTINATION).delete();
+        team = new Team("Autosaved", 15, 20);
+        autosave = new AutosaveService(team, DESTINATION, 100);
+        autosave.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        autosave.discard();
+        autosave.stop();
+        new File(DESTINATION).delete();
+    }
+
+    @Test
+    void testNotDirtyUntilModified() {
+        assertFalse(autosave.isDirty());
+        team.addMember(new Player("Tom", 18, Position.PG));
+        assertTrue(autosave.isDirty());
+    }
+
+    @Test
+    void testBurstIsMergedIntoOneSave() throws InterruptedException, IOException {
+        Player tom = new Player("Tom", 18, Position.PG);
+        team.addMember(tom);
+        Game game = new Game("TSU", new Date(), "SRC");
+        team.addGame(game);
+        for (int i = 1; i <= 20; i++) {
+            game.setHomeScore(i);
+            tom.getStats().addPoints(1);
+        }
+        assertEquals(0, autosave.getSaveCount());
+        Thread.sleep(600);
+
+        assertEquals(1, autosave.getSaveCount());
+        assertFalse(autosave.isDirty());
+        Team saved = new JsonReader(DESTINATION).readTeam();
+        assertEquals(20, saved.getGames().get(0).getHomeScore());
+        assertFalse(new File(DESTINATION + ".tmp").exists());
+    }
+
+    @Test
+    void testFlushWritesImmediately() throws IOException {
+        team.addMember(new Player("Ash", 19, Position.SG));
+        autosave.flush();
+        assertEquals(1, autosave.getSaveCount());
+        assertEquals("Ash", new JsonReader(DESTINATION).readTeam().getPlayers().get(0).getName());
+
+        autosave.flush();
+        assertEquals(1, autosave.getSaveCount());
+    }
+
+    @Test
+    void testDiscardDropsPendingSave() throws InterruptedException {
+        team.addMember(new Player("Ash", 19, Position.SG));
+        autosave.discard();
+        Thread.sleep(300);
+        assertEquals(0, autosave.getSaveCount());
+        assertFalse(new File(DESTINATION).exists());
+    }
+
+    @Test
+    void testStopWritesUnsavedChanges() throws InterruptedException {
+        team.addMember(new Player("Ash", 19, Position.SG));
+        autosave.stop();
+        assertTrue(autosave.awaitStopped(1000));
+        assertEquals(1, autosave.getSaveCount());
+        team.addMember(new Player("Tom", 18, Position.PG));
+        assertFalse(autosave.isDirty());
+    }
+
+    @Test
+    void testAbandonDeletesSavedChanges() throws InterruptedException {
+        team.addMember(new Player("Ash", 19, Position.SG));
+        autosave.flush();
+        assertTrue(new File(DESTINATION).exists());
+
+        team.addMember(new Player("Tom", 18, Position.PG));
+        assertTrue(autosave.abandon(1000));
+        assertEquals(1, autosave.getSaveCount());
+        assertFalse(new File(DESTINATION).exists());
+    }
+}
@@ -2,14 +2,21 @@ package persistence;
 
 import model.Game;
 import model.Player;
+import model.Position;
 import model.Team;
 import model.TrainingSession;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,8 +62,8 @@ public class JsonReaderTest extends JsonTest{
 
             List<Player> players = team.getPlayers();
             assertEquals(2, players.size());
-            checkPlayer("Tom", 18, "PG", 10, players.get(0));
-            checkPlayer("Ash", 19, "SG", 11, players.get(1));
+            checkPlayer("Tom", 18, Position.PG, 10, players.get(0));
+            checkPlayer("Ash", 19, Position.SG, 11, players.get(1));
 
             List<Game> games = team.getGames();
             assertEquals(3, games.size());
@@ -82,4 +89,84 @@ public class JsonReaderTest extends JsonTest{
         }
     }
 
+    @Test
+    void testReaderDefersGamesAndTrainingSessions() {
+        JsonReader reader = new JsonReader("./data/testReaderNormalTeam.json");
+        try {
+            Team team = reader.readTeam();
+            assertEquals(2, team.getPlayers().size());
+            assertFalse(team.isGamesLoaded());
+            assertFalse(team.isTrainingSessionsLoaded());
+
+            assertEquals(3, team.getGames().size());
+            assertTrue(team.isGamesLoaded());
+            assertFalse(team.isTrainingSessionsLoaded());
+
+            assertEquals(2, team.getTrainingSessions().size());
+            assertTrue(team.isTrainingSessionsLoaded());
+        } catch (IOException e) {
+            fail("Couldn't read from file");
+        }
+    }
+
+    @Test
+    void testReaderReportsProgressAndBuildsEverything() throws IOException {
+        List<String> steps = new ArrayList<>();
+        JsonReader reader = new JsonReader("./data/testReaderNormalTeam.json");
+        Team team = reader.readTeam((done, total) -> steps.add(done + "/" + total));
+        long size = Files.size(Paths.get("./data/testReaderNormalTeam.json"));
+        assertEquals(List.of(size + "/" + size, "1/5", "2/5", "3/5", "4/5", "5/5"), steps);
+        assertTrue(team.isGamesLoaded());
+        assertTrue(team.isTrainingSessionsLoaded());
+        assertEquals(3, team.getGames().size());
+        assertEquals(2, team.getTrainingSessions().size());
+    }
+
+    @Test
+    void testReaderCancelledPartWay(@TempDir Path directory) throws IOException {
+        String file = directory.resolve("largeTeam.json").toString();
+        Team large = new Team("Large", 10, 12);
+        for (int i = 0; i < 2000; i++) {
+            large.addMember(new Player("Player" + i, 11, Position.SF));
+        }
+        new JsonWriter(file).writeAtomically(large.snapshot(), ProgressListener.NONE);
+        int[] steps = new int[2];
+        ProgressListener listener = new ProgressListener() {
+            @Override
+            public void progress(int done, int total) {
+                steps[0] = done;
+                steps[1] = total;
+            }
+
+            @Override
+            public boolean isCancelRequested() {
+                return steps[0] > 0;
+            }
+        };
+        assertThrows(CancellationException.class, () -> new JsonReader(file).readTeam(listener));
+        assertTrue(steps[0] > 0 && steps[0] < steps[1]);
+    }
+
+    @Test
+    void testReaderSectionKeysInsideValues(@TempDir Path directory) {
+        String file = directory.resolve("sectionKeys.json").toString();
+        try {
+            Team team = new Team("games", 10, 12);
+            team.addMember(new Player("trainingSessions", 11, Position.PG));
+            team.addGame(new Game("[\"games\"]", new Date(), "{trainingSessions}"));
+            JsonWriter writer = new JsonWriter(file);
+            writer.open();
+            writer.write(team);
+            writer.close();
+
+            Team readTeam = new JsonReader(file).readTeam();
+            assertEquals("games", readTeam.getTeamName());
+            assertEquals("trainingSessions", readTeam.getPlayers().get(0).getName());
+            assertEquals("[\"games\"]", readTeam.getGames().get(0).getOpponentName());
+            assertEquals("{trainingSessions}", readTeam.getGames().get(0).getVenue());
+            assertEquals(0, readTeam.getTrainingSessions().size());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package persistence;
+
+import model.Game;
+import model.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonTeamRepositoryTest {
+
+    @Test
+    void testTeamNamesMissingFile() throws IOException {
+        assertTrue(new JsonTeamRepository("./data/noSuchTeamFile.json").teamNames().isEmpty());
+    }
+
+    @Test
+    void testLoadWrongName() {
+        try {
+            new JsonTeamRepository("./data/testReaderNormalTeam.json").load("Somebody Else");
+            fail("IOException expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testSaveGameAndLoad(@TempDir Path directory) throws IOException {
+        JsonTeamRepository repository = new JsonTeamRepository(directory.resolve("team.json").toString());
+        Team team = new Team("Placeholder Team", 10, 12);
+        Game game = new Game("TSU", new Date(), "SRC");
+        team.addGame(game);
+        repository.save(team);
+        game.setHomeScore(10);
+        repository.saveGame(team, game);
+
+        assertEquals(List.of("Placeholder Team"), repository.teamNames());
+        assertEquals(10, repository.load("Placeholder Team").getGames().get(0).getHomeScore());
+    }
+}
@@ -2,6 +2,7 @@ package persistence;
 
 import model.Game;
 import model.Player;
+import model.Position;
 import model.Team;
 import model.TrainingSession;
 
@@ -11,7 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 
 public class JsonTest {
-    protected void checkPlayer(String name, int age, String position, int jerseyNumber, Player player) {
+    protected void checkPlayer(String name, int age, Position position, int jerseyNumber, Player player) {
         assertEquals(name, player.getName());
         assertEquals(age, player.getAge());
         assertEquals(position, player.getPosition());
@@ -5,16 +5,21 @@ import org.junit.jupiter.api.Test;
 
 import model.Game; // Assuming you have a Game class
 import model.Player; // Assuming you have a Player class
+import model.Position;
 import model.Team;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Date;
+import java.util.concurrent.CancellationException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,12 +60,13 @@ public class JsonWriterTest {
     }
 
     @Test
-    void testWriterNormalTeamFromJson() {
+    void testWriterNormalTeamFromJson(@TempDir Path directory) {
+        String file = directory.resolve("normalTeam.json").toString();
         try {
             Team tomsGang = new Team("Toms gang", 15, 20);
             // Add Players
-            tomsGang.addMember(new Player("Tom", 18, "PG"));
-            tomsGang.addMember(new Player("Ash", 19, "SG"));
+            tomsGang.addMember(new Player("Tom", 18, Position.PG));
+            tomsGang.addMember(new Player("Ash", 19, Position.SG));
 
             // Create SimpleDateFormat instance with the desired date format
             SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
@@ -84,13 +90,14 @@ public class JsonWriterTest {
             TrainingSession session2 = new TrainingSession(trainingDate2, "Training Facility2", 75);
             tomsGang.addTrainingSession(session2);
             session2.addAttendee("Ash");
+            session2.markCompleted();
 
-            JsonWriter writer = new JsonWriter("./data/testWriterNormalTeam.json");
+            JsonWriter writer = new JsonWriter(file);
             writer.open();
             writer.write(tomsGang);
             writer.close();
 
-            JsonReader reader = new JsonReader("./data/testWriterNormalTeam.json");
+            JsonReader reader = new JsonReader(file);
             Team readTeam = reader.readTeam();
 
             // Assert properties from the provided normal team JSON
@@ -114,6 +121,8 @@ public class JsonWriterTest {
             assertEquals("Training Facility1", trainingSessions.get(0).getVenue());
             assertEquals(90, trainingSessions.get(0).getDurationInMinutes());
             assertEquals(2, trainingSessions.get(0).getAttendees().size());
+            assertFalse(trainingSessions.get(0).isCompleted());
+            assertTrue(trainingSessions.get(1).isCompleted());
         } catch (IOException e) {
             fail("Exception should not have been thrown");
         } catch (ParseException e) {
@@ -121,4 +130,49 @@ public class JsonWriterTest {
         }
     }
 
+    @Test
+    void testWriteAtomicallyStreamsTeamWithProgress(@TempDir Path directory) throws IOException {
+        String file = directory.resolve("streamed.json").toString();
+        Team team = new Team("Streamed", 15, 20);
+        team.addMember(new Player("Tom", 18, Position.PG));
+        team.addGame(new Game("Sham Gang", new Date(0), "Osborne"));
+        TrainingSession session = new TrainingSession(new Date(0), "Gym", 60);
+        team.addTrainingSession(session);
+        session.markCompleted();
+        List<Integer> steps = new ArrayList<>();
+        new JsonWriter(file).writeAtomically(team.snapshot(), (done, total) -> steps.add(done * 10 + total));
+        assertEquals(List.of(13, 23, 33), steps);
+
+        Team readTeam = new JsonReader(file).readTeam();
+        assertEquals("Tom", readTeam.getPlayers().get(0).getName());
+        assertEquals("Sham Gang", readTeam.getGames().get(0).getOpponentName());
+        assertTrue(readTeam.getTrainingSessions().get(0).isCompleted());
+    }
+
+    @Test
+    void testWriteAtomicallyCancelledLeavesDestinationUntouched(@TempDir Path directory) throws IOException {
+        String file = directory.resolve("kept.json").toString();
+        Team team = new Team("Cancelled", 15, 20);
+        for (int i = 0; i < 5; i++) {
+            team.addMember(new Player("Player" + i, 18, Position.C));
+        }
+        JsonWriter writer = new JsonWriter(file);
+        writer.writeAtomically(new Team("Kept", 10, 12).snapshot(), ProgressListener.NONE);
+        ProgressListener cancelAfterTwo = new ProgressListener() {
+            private int done;
+
+            @Override
+            public void progress(int done, int total) {
+                this.done = done;
+            }
+
+            @Override
+            public boolean isCancelRequested() {
+                return done >= 2;
+            }
+        };
+        assertThrows(CancellationException.class, () -> writer.writeAtomically(team.snapshot(), cancelAfterTwo));
+        assertEquals("Kept", new JsonReader(file).readTeam().getTeamName());
+        assertFalse(new File(file + ".tmp").exists());
+    }
 }
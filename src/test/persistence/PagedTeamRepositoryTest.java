@@ -0,0 +1,208 @@
+package persistence;
+
+import model.Game;
+import model.Player;
+import model.Position;
+import model.Team;
+import model.TrainingSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PagedTeamRepositoryTest extends JsonTest {
+    @TempDir
+    Path directory;
+    private String store;
+    private Team team;
+
+    @BeforeEach
+    public void setUp() throws ParseException {
+        store = directory.resolve("teams.db").toString();
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        team = new Team("Toms Gang", 15, 20);
+        Player tom = new Player("Tom", 18, Position.PG);
+        tom.setJerseyNumber(10);
+        team.addMember(tom);
+        team.addGame(new Game("Sham Gang", dateFormat.parse("2024-03-10"), "Osborne"));
+        team.addGame(new Game("3198", dateFormat.parse("2024-02-25"), "SRC"));
+        TrainingSession session = new TrainingSession(dateFormat.parse("2024-03-05"), "Training Facility1", 90);
+        session.addAttendee("Tom");
+        team.addTrainingSession(session);
+    }
+
+    @Test
+    void testSaveAndLoadAfterReopen() throws IOException {
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            repository.save(team);
+        }
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            assertEquals(List.of("Toms Gang"), repository.teamNames());
+            Team loaded = repository.load("Toms Gang");
+            assertEquals(15, loaded.getLowerBoundAge());
+            assertEquals(20, loaded.getUpperBoundAge());
+            checkPlayer("Tom", 18, Position.PG, 10, loaded.getPlayers().get(0));
+            checkGame("3198", "2024-02-25", "SRC", 0, 0, false, loaded.getGames().get(0));
+            checkGame("Sham Gang", "2024-03-10", "Osborne", 0, 0, false, loaded.getGames().get(1));
+            checkTrainingSession("2024-03-05", "Training Facility1", 90, List.of("Tom"),
+                    loaded.getTrainingSessions().get(0));
+        }
+    }
+
+    @Test
+    void testSaveGameRewritesOnlyThatGame() throws IOException {
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            repository.save(team);
+            long written = repository.getPagesWritten();
+
+            Game game = team.getGames().get(1);
+            game.setHomeScore(80);
+            repository.saveGame(team, game);
+            assertEquals(written + 1, repository.getPagesWritten());
+
+            long fileLength = new File(store).length();
+            game.setOpponentScore(75);
+            game.setIsWin(true);
+            repository.saveGame(team, game);
+            assertEquals(written + 2, repository.getPagesWritten());
+            assertEquals(fileLength, new File(store).length());
+        }
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            Team loaded = repository.load("Toms Gang");
+            assertEquals(2, loaded.getGames().size());
+            checkGame("Sham Gang", "2024-03-10", "Osborne", 80, 75, true, loaded.getGames().get(1));
+        }
+    }
+
+    @Test
+    void testSaveNewGameOfLoadedTeam() throws IOException, ParseException {
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            repository.save(team);
+            Team loaded = repository.load("Toms Gang");
+            Game game = new Game("Upcoming Opponent", new SimpleDateFormat("yyyy-MM-dd").parse("2024-03-12"), "Gym");
+            loaded.addGame(game);
+            repository.saveGame(loaded, game);
+        }
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            List<Game> games = repository.load("Toms Gang").getGames();
+            assertEquals(3, games.size());
+            assertEquals("Upcoming Opponent", games.get(2).getOpponentName());
+        }
+    }
+
+    @Test
+    void testSaveGameFindsStoredGameFromAnyTeamObject() throws IOException {
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            repository.save(team);
+        }
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            Game game = team.getGames().get(0);
+            game.setHomeScore(70);
+            repository.saveGame(team, game);
+            Team loaded = repository.load("Toms Gang");
+            repository.saveGame(team, game);
+            repository.save(loaded);
+            repository.saveGame(team, game);
+        }
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            List<Game> games = repository.load("Toms Gang").getGames();
+            assertEquals(2, games.size());
+            assertEquals(70, games.get(0).getHomeScore());
+        }
+    }
+
+    @Test
+    void testSeveralTeamsAndLargeRecords() throws IOException {
+        Team other = new Team("Other", 10, 12);
+        TrainingSession longSession = new TrainingSession(new java.util.Date(), "Gym", 60);
+        for (int i = 0; i < 1000; i++) {
+            longSession.addAttendee("Attendee number " + i);
+        }
+        other.addTrainingSession(longSession);
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            repository.save(team);
+            repository.save(other);
+            repository.save(team);
+        }
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            assertEquals(2, repository.teamNames().size());
+            assertEquals(1, repository.load("Toms Gang").getPlayers().size());
+            assertEquals(1000, repository.load("Other").getTrainingSessions().get(0).getAttendees().size());
+        }
+    }
+
+    @Test
+    void testRepeatedSavesReuseFreedPages() throws IOException {
+        TrainingSession longSession = new TrainingSession(new java.util.Date(), "Gym", 60);
+        for (int i = 0; i < 1000; i++) {
+            longSession.addAttendee("Attendee number " + i);
+        }
+        team.addTrainingSession(longSession);
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            repository.save(team);
+            repository.save(team);
+            long fileLength = new File(store).length();
+            for (int i = 0; i < 5; i++) {
+                repository.save(team);
+            }
+            assertEquals(fileLength, new File(store).length());
+        }
+    }
+
+    @Test
+    void testInterruptedSaveKeepsPreviousVersion() throws IOException {
+        Path crashed = directory.resolve("crashed.db");
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            repository.save(team);
+            team.getPlayers().get(0).setJerseyNumber(23);
+            repository.save(team);
+            Files.copy(Path.of(store), crashed);
+        }
+        try (FileChannel channel = FileChannel.open(crashed, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - PagedTeamRepository.PAGE_SIZE);
+        }
+        try (PagedTeamRepository repository = new PagedTeamRepository(crashed.toString())) {
+            Team loaded = repository.load("Toms Gang");
+            assertEquals(10, loaded.getPlayers().get(0).getJerseyNumber());
+            assertEquals(2, loaded.getGames().size());
+        }
+    }
+
+    @Test
+    void testUnclosedStoreIsRecovered() throws IOException {
+        Path crashed = directory.resolve("crashed.db");
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            repository.save(team);
+            Game game = team.getGames().get(0);
+            game.setHomeScore(61);
+            repository.saveGame(team, game);
+            Files.copy(Path.of(store), crashed);
+        }
+        try (PagedTeamRepository repository = new PagedTeamRepository(crashed.toString())) {
+            Team loaded = repository.load("Toms Gang");
+            assertEquals(61, loaded.getGames().get(0).getHomeScore());
+            assertEquals(List.of("Tom"), loaded.getTrainingSessions().get(0).getAttendees());
+        }
+    }
+
+    @Test
+    void testLoadMissingTeam() throws IOException {
+        try (PagedTeamRepository repository = new PagedTeamRepository(store)) {
+            repository.load("Nobody");
+            fail("IOException expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+}